@@ -40,15 +40,24 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.config.reader.ConfigReaderException;
 import de.viadee.bpm.vPAV.config.reader.XmlConfigReader;
 import de.viadee.bpm.vPAV.output.IssueOutputWriter;
+import de.viadee.bpm.vPAV.output.IssueSnapshot;
 import de.viadee.bpm.vPAV.output.JsOutputWriter;
 import de.viadee.bpm.vPAV.output.JsonOutputWriter;
 import de.viadee.bpm.vPAV.output.OutputWriterException;
@@ -56,6 +65,9 @@ import de.viadee.bpm.vPAV.output.RuleSetOutputWriter;
 import de.viadee.bpm.vPAV.output.XmlOutputWriter;
 import de.viadee.bpm.vPAV.processing.BpmnModelDispatcher;
 import de.viadee.bpm.vPAV.processing.ConfigItemNotFoundException;
+import de.viadee.bpm.vPAV.processing.StreamingModelLinter;
+import de.viadee.bpm.vPAV.processing.checker.CheckerDispatchTable;
+import de.viadee.bpm.vPAV.processing.checker.CheckerFactory;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 
 public abstract class AbstractRunner {
@@ -66,6 +78,8 @@ public abstract class AbstractRunner {
 
     private static OuterProcessVariablesScanner variableScanner;
 
+    private static Set<String> modelPaths;
+
     private static Collection<CheckerIssue> issues;
 
     private static Collection<CheckerIssue> filteredIssues;
@@ -77,6 +91,21 @@ public abstract class AbstractRunner {
     private static boolean isExecuted = false;
 
     public static void run_vPAV() {
+        run_vPAV(ValidationBudget.unlimited());
+    }
+
+    /**
+     * validation run with limits for CI gates. A fail-fast run stops after the first error (or a number of issues) and
+     * writes no reports, a run with a time budget checks the models with the highest risk first and reports the
+     * partial results.
+     *
+     * @param budget
+     *            limits of the run
+     */
+    public static void run_vPAV(final ValidationBudget budget) {
+
+        // 0 ignored issues don't stop a fail-fast run
+        budget.start(budget.isFailFast() ? readIgnoredIssues() : Collections.<String> emptySet());
 
         // 1
         final Map<String, Rule> rules = readConfig();
@@ -88,11 +117,21 @@ public abstract class AbstractRunner {
         getProcessVariables(rules);
 
         // 4
-        createIssues(rules);
+        createIssues(rules, budget);
 
         // 5
         filteredIssues = filterIssues(issues);
 
+        if (budget.isFailFast()) {
+            // 6a the gate only needs the issues, no reports
+            for (final CheckerIssue issue : filteredIssues) {
+                logger.warning(issue.getClassification() + " in " + issue.getBpmnFile() + " ("
+                        + issue.getElementId() + "): " + issue.getMessage());
+            }
+            logger.info("BPMN validation stopped after " + filteredIssues.size() + " issue(s)");
+            return;
+        }
+
         // 6
         writeOutput(filteredIssues);
 
@@ -103,6 +142,34 @@ public abstract class AbstractRunner {
 
     }
 
+    /**
+     * Fast lint mode, which only evaluates the rules on ids, names and attributes of the elements (e.g. for pre-commit
+     * hooks). The models are read in one SAX pass each, without classpath scan, process variables and data flow
+     * graphs.
+     */
+    public static void run_vPAV_lint() {
+
+        // 1
+        final Map<String, Rule> rules = readConfig();
+
+        // 2
+        modelPaths = FileScanner.scanProcessdefinitions();
+
+        // 3
+        issues = lintModels(rules, modelPaths);
+
+        // 4
+        filteredIssues = filterIssues(issues);
+
+        // 5
+        writeOutput(filteredIssues);
+
+        // 6
+        copyFiles();
+
+        logger.info("BPMN lint successful completed");
+    }
+
     /**
      * 1) If local_ruleSet doesn't exist, then load default_RuleSet 2) If local_ruleSet exist and parent is deactivated
      * then override deactivatedRules with local_ruleSet 3) If local_ruleSet exist and parent is activated then override
@@ -153,7 +220,9 @@ public abstract class AbstractRunner {
 
     // 2b - Scan classpath for models
     public static void scanClassPath(Map<String, Rule> rules) {
+        RuntimeConfig.getInstance().setResourceResolver(new ResourceResolver());
         fileScanner = new FileScanner(rules);
+        modelPaths = fileScanner.getProcessdefinitions();
     }
 
     // 3 - Get process variables
@@ -164,7 +233,13 @@ public abstract class AbstractRunner {
 
     // 4 - Check each model
     public static void createIssues(Map<String, Rule> rules) throws RuntimeException {
-        issues = checkModels(rules, fileScanner, variableScanner);
+        createIssues(rules, ValidationBudget.unlimited());
+    }
+
+    // 4 - Check each model within the budget
+    public static void createIssues(Map<String, Rule> rules, final ValidationBudget budget) throws RuntimeException {
+        issues = checkModels(rules, fileScanner, variableScanner, budget);
+        RuntimeConfig.getInstance().getResourceResolver().logMissingResources();
     }
 
     // 5 remove ignored issues
@@ -175,24 +250,21 @@ public abstract class AbstractRunner {
     /**
      * write output files (xml / json/ js)
      *
+     * The issues are copied into one immutable snapshot, from which the writers run in parallel.
+     *
      * @param filteredIssues
      *            List of filteredIssues
      * @throws RuntimeException
      *             Abort if writer can not be instantiated
      */
     public static void writeOutput(final Collection<CheckerIssue> filteredIssues) throws RuntimeException {
-        if (filteredIssues.size() > 0) {
-            final IssueOutputWriter xmlOutputWriter = new XmlOutputWriter();
-            final IssueOutputWriter jsonOutputWriter = new JsonOutputWriter();
-            final IssueOutputWriter jsOutputWriter = new JsOutputWriter();
-            try {
-                xmlOutputWriter.write(filteredIssues);
-                jsonOutputWriter.write(filteredIssues);
-                jsOutputWriter.write(filteredIssues);
-
-            } catch (final OutputWriterException e) {
-                throw new RuntimeException("Output couldn't be written");
-            }
+        final List<IssueSnapshot> snapshot = IssueSnapshot.of(filteredIssues);
+        if (snapshot.size() > 0) {
+            final List<IssueOutputWriter> writers = new ArrayList<IssueOutputWriter>();
+            writers.add(new XmlOutputWriter());
+            writers.add(new JsonOutputWriter());
+            writers.add(new JsOutputWriter());
+            writeInParallel(writers, snapshot);
         } else {
             // 6a if no issues, then delete files if exists
             ArrayList<Path> validationFiles = new ArrayList<Path>();
@@ -202,13 +274,39 @@ public abstract class AbstractRunner {
             deleteFiles(validationFiles);
             final IssueOutputWriter jsOutputWriter = new JsOutputWriter();
             try {
-                jsOutputWriter.write(filteredIssues);
+                jsOutputWriter.write(snapshot);
             } catch (OutputWriterException e) {
                 throw new RuntimeException("JavaScript File couldn't be written");
             }
         }
     }
 
+    private static void writeInParallel(final List<IssueOutputWriter> writers, final List<IssueSnapshot> snapshot) {
+        final ExecutorService executor = Executors.newFixedThreadPool(writers.size());
+        try {
+            final List<Future<Void>> outputs = new ArrayList<Future<Void>>();
+            for (final IssueOutputWriter writer : writers) {
+                outputs.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws OutputWriterException {
+                        writer.write(snapshot);
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> output : outputs) {
+                output.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Output couldn't be written", ex);
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException("Output couldn't be written", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * create Base folders
      *
@@ -378,6 +476,20 @@ public abstract class AbstractRunner {
         return filteredIssues;
     }
 
+    /**
+     * read the ids of the ignored issues from the black list
+     *
+     * @return issue ids
+     * @throws RuntimeException
+     */
+    private static Collection<String> readIgnoredIssues() throws RuntimeException {
+        try {
+            return collectIgnoredIssues(ConstantsConfig.IGNORE_FILE);
+        } catch (final IOException e) {
+            throw new RuntimeException("Ignored issues couldn't be read successfully", e);
+        }
+    }
+
     /**
      * remove false positives from issue collection
      *
@@ -439,16 +551,90 @@ public abstract class AbstractRunner {
      * @param beanMapping
      * @param fileScanner
      * @param variableScanner
+     * @param budget
      * @return
      * @throws ConfigItemNotFoundException
      */
     private static Collection<CheckerIssue> checkModels(final Map<String, Rule> rules, final FileScanner fileScanner,
-            final OuterProcessVariablesScanner variableScanner) throws RuntimeException {
+            final OuterProcessVariablesScanner variableScanner, final ValidationBudget budget)
+            throws RuntimeException {
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
-        for (final String pathToModel : fileScanner.getProcessdefinitions()) {
+        // the element checkers are created once and shared by all models
+        final CheckerDispatchTable checkers;
+        try {
+            checkers = CheckerFactory.createCheckerDispatchTable(rules, fileScanner.getResourcesNewestVersions());
+        } catch (final ConfigItemNotFoundException e) {
+            throw new RuntimeException("Config item couldn't be read");
+        }
+
+        final List<String> models = new ArrayList<String>(fileScanner.getProcessdefinitions());
+        if (budget.hasTimeBudget()) {
+            sortByRisk(models);
+        }
+
+        int checkedModels = 0;
+        for (final String pathToModel : models) {
             issues.addAll(checkModel(rules, pathToModel, fileScanner,
-                    variableScanner));
+                    variableScanner, checkers, budget));
+            checkedModels++;
+            if (budget.isExhausted()) {
+                // stop the groovy validations, which are still running for the last model
+                checkers.cancel();
+                logger.warning("Validation stopped early, " + (models.size() - checkedModels) + " of "
+                        + models.size() + " model(s) haven't been checked");
+                break;
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * sort the models by risk, recently changed and large models first
+     *
+     * @param models
+     *            paths of the models relative to the base path
+     */
+    private static void sortByRisk(final List<String> models) {
+        final Map<String, Long> lastModified = new HashMap<String, Long>();
+        final Map<String, Long> length = new HashMap<String, Long>();
+        for (final String model : models) {
+            final File file = new File(ConstantsConfig.BASEPATH + model);
+            lastModified.put(model, file.lastModified());
+            length.put(model, file.length());
+        }
+        Collections.sort(models, new Comparator<String>() {
+            @Override
+            public int compare(final String a, final String b) {
+                int result = lastModified.get(b).compareTo(lastModified.get(a));
+                if (result == 0) {
+                    result = length.get(b).compareTo(length.get(a));
+                }
+                return result != 0 ? result : a.compareTo(b);
+            }
+        });
+    }
+
+    /**
+     * lint all models with the rules, which don't need a model instance
+     *
+     * @param rules
+     * @param processdefinitions
+     * @return issues
+     */
+    private static Collection<CheckerIssue> lintModels(final Map<String, Rule> rules,
+            final Set<String> processdefinitions) throws RuntimeException {
+        final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
+
+        final StreamingModelLinter linter;
+        try {
+            linter = new StreamingModelLinter(rules);
+        } catch (final ConfigItemNotFoundException e) {
+            throw new RuntimeException("Config item couldn't be read");
+        }
+
+        for (final String pathToModel : processdefinitions) {
+            issues.addAll(linter.lint(new File(ConstantsConfig.BASEPATH + pathToModel)));
         }
         return issues;
     }
@@ -461,18 +647,21 @@ public abstract class AbstractRunner {
      * @param processdef
      * @param fileScanner
      * @param variableScanner
+     * @param checkers
+     * @param budget
      * @return
      * @throws ConfigItemNotFoundException
      */
     private static Collection<CheckerIssue> checkModel(final Map<String, Rule> rules, final String processdef,
             final FileScanner fileScanner,
-            final OuterProcessVariablesScanner variableScanner) throws RuntimeException {
+            final OuterProcessVariablesScanner variableScanner, final CheckerDispatchTable checkers,
+            final ValidationBudget budget) throws RuntimeException {
         Collection<CheckerIssue> modelIssues;
         try {
             modelIssues = BpmnModelDispatcher.dispatch(new File(ConstantsConfig.BASEPATH + processdef),
                     fileScanner.getDecisionRefToPathMap(), fileScanner.getProcessIdToPathMap(),
                     variableScanner.getMessageIdToVariableMap(), variableScanner.getProcessIdToVariableMap(),
-                    fileScanner.getResourcesNewestVersions(), rules);
+                    checkers, rules, budget);
 
         } catch (final ConfigItemNotFoundException e) {
             throw new RuntimeException("Config item couldn't be read");
@@ -507,7 +696,7 @@ public abstract class AbstractRunner {
     }
 
     public static Set<String> getModelPath() {
-        return fileScanner.getProcessdefinitions();
+        return modelPaths;
     }
 
     public static Collection<CheckerIssue> getfilteredIssues() {
@@ -29,7 +29,9 @@
  */
 package de.viadee.bpm.vPAV;
 
+import java.io.File;
 import java.net.MalformedURLException;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -41,6 +43,8 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+import de.viadee.bpm.vPAV.beans.BeanMappingClassScanner;
+
 /**
  * Goal which checks bpmn files
  */
@@ -56,9 +60,31 @@ public class BpmnCheckerMojo extends AbstractRunner implements org.apache.maven.
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject project;
 
+    /** only check ids, names and attributes of the models in one fast pass */
+    @Parameter(property = "vPAV.lint", defaultValue = "false")
+    private boolean lint;
+
+    /** stop after the first error and skip the reports */
+    @Parameter(property = "vPAV.failFast", defaultValue = "false")
+    private boolean failFast;
+
+    /** stop after this number of issues and skip the reports, 0 for no limit */
+    @Parameter(property = "vPAV.maxIssues", defaultValue = "0")
+    private int maxIssues;
+
+    /** check the models with the highest risk first and stop after this number of seconds, 0 for no limit */
+    @Parameter(property = "vPAV.timeBudget", defaultValue = "0")
+    private long timeBudget;
+
     @Override
     public void execute() throws MojoExecutionException {
 
+        if (lint) {
+            run_vPAV_lint();
+            checkIssues("Please check target folder for validation output");
+            return;
+        }
+
         // 2) get MavenProject classloader
 
         try {
@@ -67,13 +93,25 @@ public class BpmnCheckerMojo extends AbstractRunner implements org.apache.maven.
             throw new MojoExecutionException("Classloader couldn't be load");
         }
 
-        run_vPAV();
+        // 3) read bean mapping from the annotations of the compiled classes
+        final Map<String, String> beanMapping = BeanMappingClassScanner
+                .scan(new File(project.getBuild().getOutputDirectory()));
+        if (!beanMapping.isEmpty()) {
+            RuntimeConfig.getInstance().setBeanMapping(beanMapping);
+        }
+
+        final ValidationBudget budget = new ValidationBudget(failFast, maxIssues, timeBudget * 1000);
+        run_vPAV(budget);
+
+        checkIssues(budget.isFailFast() ? "Please check the log for the issues"
+                : "Please check target folder for validation output");
+    }
 
+    private void checkIssues(final String hint) throws MojoExecutionException {
         if (AbstractRunner.getfilteredIssues().isEmpty()) {
             logger.info("No issues were found");
         } else {
-            throw new MojoExecutionException(
-                    "Model inconsistency found. Please check target folder for validation output");
+            throw new MojoExecutionException("Model inconsistency found. " + hint);
         }
     }
 
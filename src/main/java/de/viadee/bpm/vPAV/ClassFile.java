@@ -0,0 +1,309 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Header and class annotations read from a class file
+ *
+ * The class file is parsed without a bytecode library and without checking its version, so class files of any java
+ * release can be read. Fields, methods and their code are skipped.
+ */
+public final class ClassFile {
+
+    public static final int ACC_INTERFACE = 0x0200;
+
+    public static final int ACC_ABSTRACT = 0x0400;
+
+    public static final int ACC_ANNOTATION = 0x2000;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final int access;
+
+    private final String className;
+
+    private final String superName;
+
+    private final String[] interfaces;
+
+    private final Map<String, Map<String, String>> annotations;
+
+    private ClassFile(final int access, final String className, final String superName, final String[] interfaces,
+            final Map<String, Map<String, String>> annotations) {
+        this.access = access;
+        this.className = className;
+        this.superName = superName;
+        this.interfaces = interfaces;
+        this.annotations = annotations;
+    }
+
+    /**
+     * Read a class file
+     *
+     * @param stream
+     *            class file
+     * @param withAnnotations
+     *            read the runtime visible annotations of the class, otherwise only the header is read
+     * @return class file
+     * @throws IOException
+     *             if the stream isn't a valid class file
+     */
+    public static ClassFile read(final InputStream stream, final boolean withAnnotations) throws IOException {
+        final DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("no class file");
+        }
+        // minor and major version
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        final int constantPoolCount = in.readUnsignedShort();
+        final String[] utf8 = new String[constantPoolCount];
+        final int[] classNameIndex = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.readUnsignedShort();
+                    break;
+                case 15: // MethodHandle
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.readInt();
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.readLong();
+                    i++;
+                    break;
+                default:
+                    throw new IOException("unknown constant pool tag " + tag);
+            }
+        }
+
+        final int access = in.readUnsignedShort();
+        final String className = toClassName(utf8, classNameIndex, in.readUnsignedShort());
+        final String superName = toClassName(utf8, classNameIndex, in.readUnsignedShort());
+        final String[] interfaces = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = toClassName(utf8, classNameIndex, in.readUnsignedShort());
+        }
+
+        Map<String, Map<String, String>> annotations = Collections.emptyMap();
+        if (withAnnotations) {
+            // fields and methods
+            skipMembers(in);
+            skipMembers(in);
+            final int attributeCount = in.readUnsignedShort();
+            for (int i = 0; i < attributeCount; i++) {
+                final String attributeName = toUtf8(utf8, in.readUnsignedShort());
+                final long length = in.readInt() & 0xFFFFFFFFL;
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    annotations = readAnnotations(in, utf8);
+                } else {
+                    skipFully(in, length);
+                }
+            }
+        }
+
+        return new ClassFile(access, className, superName, interfaces, annotations);
+    }
+
+    /**
+     * @return true, if the class is neither abstract nor an interface or annotation
+     */
+    public boolean isConcrete() {
+        return (access & (ACC_ABSTRACT | ACC_INTERFACE | ACC_ANNOTATION)) == 0;
+    }
+
+    /**
+     * @return fully qualified class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return fully qualified name of the superclass or null for java.lang.Object
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * @return fully qualified names of the directly implemented interfaces
+     */
+    public String[] getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * get the runtime visible annotations of the class with their string values, other values are left out
+     *
+     * @return annotation descriptor (e.g. Lorg/springframework/stereotype/Component;) to element name and value
+     */
+    public Map<String, Map<String, String>> getAnnotations() {
+        return annotations;
+    }
+
+    private static Map<String, Map<String, String>> readAnnotations(final DataInputStream in, final String[] utf8)
+            throws IOException {
+        final Map<String, Map<String, String>> annotations = new LinkedHashMap<String, Map<String, String>>();
+        final int annotationCount = in.readUnsignedShort();
+        for (int i = 0; i < annotationCount; i++) {
+            final String descriptor = toUtf8(utf8, in.readUnsignedShort());
+            annotations.put(descriptor, readAnnotationValues(in, utf8));
+        }
+        return annotations;
+    }
+
+    private static Map<String, String> readAnnotationValues(final DataInputStream in, final String[] utf8)
+            throws IOException {
+        final Map<String, String> values = new HashMap<String, String>();
+        final int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            final String name = toUtf8(utf8, in.readUnsignedShort());
+            final int tag = in.readUnsignedByte();
+            if (tag == 's') {
+                values.put(name, toUtf8(utf8, in.readUnsignedShort()));
+            } else {
+                skipElementValue(in, utf8, tag);
+            }
+        }
+        return values;
+    }
+
+    private static void skipElementValue(final DataInputStream in, final String[] utf8, final int tag)
+            throws IOException {
+        switch (tag) {
+            case 'B':
+            case 'C':
+            case 'D':
+            case 'F':
+            case 'I':
+            case 'J':
+            case 'S':
+            case 'Z':
+            case 's':
+            case 'c':
+                in.readUnsignedShort();
+                break;
+            case 'e':
+                in.readUnsignedShort();
+                in.readUnsignedShort();
+                break;
+            case '@':
+                in.readUnsignedShort();
+                readAnnotationValues(in, utf8);
+                break;
+            case '[':
+                final int valueCount = in.readUnsignedShort();
+                for (int i = 0; i < valueCount; i++) {
+                    skipElementValue(in, utf8, in.readUnsignedByte());
+                }
+                break;
+            default:
+                throw new IOException("unknown element value tag " + tag);
+        }
+    }
+
+    private static void skipMembers(final DataInputStream in) throws IOException {
+        final int memberCount = in.readUnsignedShort();
+        for (int i = 0; i < memberCount; i++) {
+            // access flags, name and descriptor
+            skipFully(in, 6);
+            final int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                in.readUnsignedShort();
+                skipFully(in, in.readInt() & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    private static void skipFully(final DataInputStream in, final long length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            final long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException("class file is truncated");
+                }
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+
+    private static String toUtf8(final String[] utf8, final int index) throws IOException {
+        if (index <= 0 || index >= utf8.length || utf8[index] == null) {
+            throw new IOException("invalid utf8 reference " + index);
+        }
+        return utf8[index];
+    }
+
+    private static String toClassName(final String[] utf8, final int[] classNameIndex, final int index)
+            throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classNameIndex.length || utf8[classNameIndex[index]] == null) {
+            throw new IOException("invalid class reference " + index);
+        }
+        return utf8[classNameIndex[index]].replace('/', '.');
+    }
+}
@@ -0,0 +1,465 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+
+/**
+ * Index of the class hierarchy (class name, superclass and interfaces) of the classpath
+ *
+ * The index is read from the headers of the class files in the class folders and jars of the class loader, so no
+ * class is loaded or initialized. It is persisted and each class folder entry or jar is only read again, if its
+ * modification time or size has changed. Classes outside of the indexed classpath (e.g. of a parent class loader) are
+ * read on demand.
+ */
+public class ClassIndex {
+
+    public static Logger logger = Logger.getLogger(ClassIndex.class.getName());
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private static final String JAR_FILE_EXTENSION = ".jar";
+
+    private static final ClassHeader NOT_FOUND = new ClassHeader(null, null, new String[0]);
+
+    private static final TypeHierarchy UNRESOLVED = new TypeHierarchy(null, Collections.<String> emptySet(),
+            Collections.<String> emptySet());
+
+    private final ClassLoader classLoader;
+
+    private final File indexFile;
+
+    private Map<String, ClassHeader> index;
+
+    private final ConcurrentMap<String, ClassHeader> loadedHeaders = new ConcurrentHashMap<String, ClassHeader>();
+
+    private final ConcurrentMap<String, TypeHierarchy> typeHierarchies = new ConcurrentHashMap<String, TypeHierarchy>();
+
+    /**
+     * @param classLoader
+     *            class loader of the analysed project
+     * @param indexFile
+     *            file to persist the index
+     */
+    public ClassIndex(final ClassLoader classLoader, final File indexFile) {
+        this.classLoader = classLoader;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Resolve superclasses and interfaces of a class
+     *
+     * The result is memoized for each class of the hierarchy, including classes which couldn't be found, so every
+     * hierarchy is only resolved once.
+     *
+     * @param className
+     *            fully qualified class name
+     * @return type hierarchy or null, if the class doesn't exist
+     */
+    public TypeHierarchy getTypeHierarchy(final String className) {
+        return resolveTypeHierarchy(className, new HashSet<String>());
+    }
+
+    /**
+     * Resolve type hierarchy based on the memoized hierarchies of the direct supertypes
+     *
+     * @param className
+     * @param visiting
+     *            classes currently being resolved, to stop on cyclic (invalid) hierarchies
+     * @return type hierarchy or null, if the class doesn't exist
+     */
+    private TypeHierarchy resolveTypeHierarchy(final String className, final Set<String> visiting) {
+        final TypeHierarchy memoized = typeHierarchies.get(className);
+        if (memoized != null) {
+            return memoized == UNRESOLVED ? null : memoized;
+        }
+
+        final ClassHeader header = getHeader(className);
+        if (header == null) {
+            typeHierarchies.putIfAbsent(className, UNRESOLVED);
+            return null;
+        }
+        if (!visiting.add(className)) {
+            return null;
+        }
+
+        final Set<String> superclasses = new LinkedHashSet<String>();
+        final Set<String> interfaces = new LinkedHashSet<String>();
+        if (header.superName != null) {
+            superclasses.add(header.superName);
+            final TypeHierarchy superHierarchy = resolveTypeHierarchy(header.superName, visiting);
+            if (superHierarchy != null) {
+                superclasses.addAll(superHierarchy.superclasses);
+                interfaces.addAll(superHierarchy.interfaces);
+            }
+        }
+        for (final String interfaceName : header.interfaces) {
+            interfaces.add(interfaceName);
+            final TypeHierarchy interfaceHierarchy = resolveTypeHierarchy(interfaceName, visiting);
+            if (interfaceHierarchy != null) {
+                interfaces.addAll(interfaceHierarchy.interfaces);
+            }
+        }
+
+        final TypeHierarchy typeHierarchy = new TypeHierarchy(className, superclasses, interfaces);
+        final TypeHierarchy previous = typeHierarchies.putIfAbsent(className, typeHierarchy);
+        return previous == null || previous == UNRESOLVED ? typeHierarchy : previous;
+    }
+
+    /**
+     * Get header of a class from the index or the class loader
+     *
+     * @param className
+     *            fully qualified class name
+     * @return header or null, if the class doesn't exist
+     */
+    private ClassHeader getHeader(final String className) {
+        final ClassHeader header = getIndex().get(className);
+        if (header != null) {
+            return header;
+        }
+        ClassHeader loadedHeader = loadedHeaders.get(className);
+        if (loadedHeader == null) {
+            loadedHeader = loadHeader(className);
+            loadedHeaders.putIfAbsent(className, loadedHeader);
+        }
+        return loadedHeader == NOT_FOUND ? null : loadedHeader;
+    }
+
+    /**
+     * Read header of a class file with the class loader without loading the class
+     *
+     * @param className
+     * @return header or NOT_FOUND
+     */
+    private ClassHeader loadHeader(final String className) {
+        if (classLoader == null) {
+            return NOT_FOUND;
+        }
+        try (final InputStream in = classLoader
+                .getResourceAsStream(className.replace('.', '/') + CLASS_FILE_EXTENSION)) {
+            if (in != null) {
+                final ClassHeader header = ClassHeader.read(in);
+                if (className.equals(header.className)) {
+                    return header;
+                }
+            }
+        } catch (final IOException ex) {
+            logger.warning("class file of " + className + " couldn't be read: " + ex.getMessage());
+        }
+        return NOT_FOUND;
+    }
+
+    private synchronized Map<String, ClassHeader> getIndex() {
+        if (index == null) {
+            index = buildIndex();
+        }
+        return index;
+    }
+
+    /**
+     * Build index over the class folders and jars of the class loader
+     *
+     * @return class name to header
+     */
+    private Map<String, ClassHeader> buildIndex() {
+        final Map<String, IndexedSource> persistedSources = readPersistedSources();
+        final Map<String, IndexedSource> sources = new HashMap<String, IndexedSource>();
+        final Map<String, ClassHeader> classes = new HashMap<String, ClassHeader>();
+
+        for (final URL url : getClasspathUrls()) {
+            final File file = new File(url.getFile());
+            try {
+                if (file.isDirectory()) {
+                    indexDirectory(file.toPath(), persistedSources, sources, classes);
+                } else if (file.isFile() && file.getName().endsWith(JAR_FILE_EXTENSION)) {
+                    final IndexedSource source = indexJar(file, persistedSources);
+                    sources.put(file.getAbsolutePath(), source);
+                    addClasses(classes, source);
+                }
+            } catch (final IOException ex) {
+                logger.warning("classpath entry " + file.getPath() + " couldn't be indexed: " + ex.getMessage());
+            }
+        }
+
+        if (!sources.equals(persistedSources)) {
+            writePersistedSources(sources);
+        }
+        return classes;
+    }
+
+    private URL[] getClasspathUrls() {
+        if (classLoader instanceof URLClassLoader) {
+            return ((URLClassLoader) classLoader).getURLs();
+        }
+        return new URL[0];
+    }
+
+    /**
+     * Index all class files of a class folder
+     */
+    private void indexDirectory(final Path directory, final Map<String, IndexedSource> persistedSources,
+            final Map<String, IndexedSource> sources, final Map<String, ClassHeader> classes) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                if (file.getFileName().toString().endsWith(CLASS_FILE_EXTENSION)) {
+                    final String key = file.toAbsolutePath().toString();
+                    final long lastModified = attrs.lastModifiedTime().toMillis();
+                    IndexedSource source = persistedSources.get(key);
+                    if (source == null || !source.isValid(lastModified, attrs.size())) {
+                        // an unreadable class file is indexed without classes, so it is only read again if it changes
+                        source = new IndexedSource(lastModified, attrs.size());
+                        try (final InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                            final ClassHeader header = ClassHeader.read(in);
+                            source.classes.put(header.className, header);
+                        } catch (final IOException ex) {
+                            logger.warning("class file " + file + " couldn't be indexed: " + ex.getMessage());
+                        }
+                    }
+                    sources.put(key, source);
+                    addClasses(classes, source);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException ex) {
+                logger.warning("class folder entry " + file + " couldn't be indexed: " + ex.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Index all class files of a jar
+     */
+    private IndexedSource indexJar(final File jar, final Map<String, IndexedSource> persistedSources)
+            throws IOException {
+        final IndexedSource persistedSource = persistedSources.get(jar.getAbsolutePath());
+        if (persistedSource != null && persistedSource.isValid(jar.lastModified(), jar.length())) {
+            return persistedSource;
+        }
+        final IndexedSource source = new IndexedSource(jar.lastModified(), jar.length());
+        try (final JarFile jarFile = new JarFile(jar)) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                final String name = entry.getName();
+                if (name.endsWith(CLASS_FILE_EXTENSION) && !name.startsWith("META-INF/")
+                        && !name.endsWith("module-info.class")) {
+                    // an unreadable entry is skipped, so the other classes of the jar are still indexed
+                    try (final InputStream in = new BufferedInputStream(jarFile.getInputStream(entry))) {
+                        final ClassHeader header = ClassHeader.read(in);
+                        source.classes.put(header.className, header);
+                    } catch (final IOException ex) {
+                        logger.warning("class file " + name + " of " + jar.getPath() + " couldn't be indexed: "
+                                + ex.getMessage());
+                    }
+                }
+            }
+        }
+        return source;
+    }
+
+    /**
+     * add classes of a source, the first occurrence on the classpath wins
+     */
+    private static void addClasses(final Map<String, ClassHeader> classes, final IndexedSource source) {
+        for (final Map.Entry<String, ClassHeader> entry : source.classes.entrySet()) {
+            if (!classes.containsKey(entry.getKey())) {
+                classes.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, IndexedSource> readPersistedSources() {
+        if (indexFile != null && indexFile.isFile()) {
+            try (final ObjectInputStream in = new ObjectInputStream(
+                    new BufferedInputStream(new FileInputStream(indexFile)))) {
+                return (Map<String, IndexedSource>) in.readObject();
+            } catch (final IOException | ClassNotFoundException | ClassCastException ex) {
+                logger.info("class index couldn't be read and will be rebuilt");
+            }
+        }
+        return new HashMap<String, IndexedSource>();
+    }
+
+    private void writePersistedSources(final Map<String, IndexedSource> sources) {
+        if (indexFile == null) {
+            return;
+        }
+        try {
+            final Path indexPath = Paths.get(indexFile.getAbsolutePath());
+            Files.createDirectories(indexPath.getParent());
+            try (final ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(indexPath))) {
+                out.writeObject(sources);
+            }
+        } catch (final IOException ex) {
+            logger.warning("class index couldn't be written: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * superclasses and interfaces of a class
+     */
+    public static final class TypeHierarchy {
+
+        private final String className;
+
+        private final Set<String> superclasses;
+
+        private final Set<String> interfaces;
+
+        TypeHierarchy(final String className, final Set<String> superclasses, final Set<String> interfaces) {
+            this.className = className;
+            this.superclasses = Collections.unmodifiableSet(superclasses);
+            this.interfaces = Collections.unmodifiableSet(interfaces);
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return all superclasses, starting with the direct superclass
+         */
+        public Set<String> getSuperclasses() {
+            return superclasses;
+        }
+
+        /**
+         * @return all implemented interfaces including inherited ones
+         */
+        public Set<String> getInterfaces() {
+            return interfaces;
+        }
+    }
+
+    /**
+     * class folder entry or jar with its indexed classes
+     */
+    private static final class IndexedSource implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long lastModified;
+
+        private final long size;
+
+        private final Map<String, ClassHeader> classes = new HashMap<String, ClassHeader>();
+
+        private IndexedSource(final long lastModified, final long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        private boolean isValid(final long currentLastModified, final long currentSize) {
+            return lastModified == currentLastModified && size == currentSize;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof IndexedSource)) {
+                return false;
+            }
+            final IndexedSource other = (IndexedSource) obj;
+            return lastModified == other.lastModified && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (lastModified ^ size);
+        }
+    }
+
+    /**
+     * name, superclass and interfaces read from the header of a class file
+     */
+    private static final class ClassHeader implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        private final String superName;
+
+        private final String[] interfaces;
+
+        private ClassHeader(final String className, final String superName, final String[] interfaces) {
+            this.className = className;
+            this.superName = superName;
+            this.interfaces = interfaces;
+        }
+
+        /**
+         * Read the header of a class file. Only the constant pool and the class information are read, so any class
+         * file version can be processed.
+         *
+         * @param stream
+         *            class file
+         * @return header
+         * @throws IOException
+         *             if the stream isn't a valid class file
+         */
+        private static ClassHeader read(final InputStream stream) throws IOException {
+            final ClassFile classFile = ClassFile.read(stream, false);
+            return new ClassHeader(classFile.getClassName(), classFile.getSuperName(), classFile.getInterfaces());
+        }
+    }
+}
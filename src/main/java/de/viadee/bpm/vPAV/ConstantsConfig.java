@@ -41,13 +41,15 @@ public final class ConstantsConfig {
 
     public static final String IGNORE_FILE = "src/test/resources/.ignoreIssues";
 
-    public static final String BPMN_FILE_PATTERN = "**/*.bpmn";
+    public static final String BPMN_FILE_EXTENSION = ".bpmn";
 
-    public static final String DMN_FILE_PATTERN = "**/*.dmn";
+    public static final String DMN_FILE_EXTENSION = ".dmn";
 
-    public static final String SCRIPT_FILE_PATTERN = "**/*.groovy";
+    public static final String SCRIPT_FILE_EXTENSION = ".groovy";
 
-    public static final String JAVA_FILE_PATTERN = "**/*.java";
+    public static final String JAVA_FILE_EXTENSION = ".java";
+
+    public static final String CLASS_FILE_EXTENSION = ".class";
 
     public static final String EFFECTIVE_RULESET = "target/vPAV/effectiveRuleSet.xml";
 
@@ -59,6 +61,8 @@ public final class ConstantsConfig {
 
     public static final String VALIDATION_JSON_OUTPUT = "target/vPAV/bpmn_validation.json";
 
+    public static final String CLASS_INDEX = "target/vPAV/classIndex.ser";
+
     public static final String VALIDATION_FOLDER = "target/vPAV/";
 
     public static final String JS_FOLDER = "target/vPAV/js/";
@@ -75,6 +79,8 @@ public final class ConstantsConfig {
 
     public static final String TEST_BASEPATH = "src/test/resources/";
 
+    public static final String FORMSPATH = "src/main/webapp/forms/";
+
     public static final String PROCESS_VARIABLES_LOCATION = "ProcessVariablesLocation";
 
     public static final String LOCATION = "location";
@@ -30,35 +30,34 @@
 package de.viadee.bpm.vPAV;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.TrueFileFilter;
+import javax.xml.stream.XMLStreamException;
+
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.project.MavenProject;
-import org.apache.tools.ant.DirectoryScanner;
-import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.BpmnModelException;
-import org.camunda.bpm.model.bpmn.BpmnModelInstance;
-import org.camunda.bpm.model.bpmn.instance.Process;
-import org.camunda.bpm.model.dmn.Dmn;
-import org.camunda.bpm.model.dmn.DmnModelException;
-import org.camunda.bpm.model.dmn.DmnModelInstance;
-import org.camunda.bpm.model.dmn.instance.Decision;
 
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.config.model.Setting;
@@ -81,7 +80,7 @@ public class FileScanner {
 
     private Map<String, String> decisionRefToPathMap;
 
-    private Collection<String> resourcesNewestVersions = new ArrayList<String>();
+    private VersionedResourceIndex versionedResources = VersionedResourceIndex.create(null, null);
 
     private Map<String, String> processIdToPathMap;
 
@@ -91,27 +90,16 @@ public class FileScanner {
 
     public FileScanner(final Map<String, Rule> rules) {
 
-        final DirectoryScanner scanner = new DirectoryScanner();
-        scanner.setBasedir(ConstantsConfig.BASEPATH);
-
-        // get file paths of process definitions
-        scanner.setIncludes(new String[] { ConstantsConfig.BPMN_FILE_PATTERN });
-        scanner.scan();
-        processdefinitions = new HashSet<String>(Arrays.asList(scanner.getIncludedFiles()));
-
-        scanner.setBasedir(ConstantsConfig.JAVAPATH);
-        // get file paths of process definitions
-        scanner.setIncludes(new String[] { ConstantsConfig.JAVA_FILE_PATTERN });
-        scanner.scan();
-        javaResourcesFileInputStream = new HashSet<String>(Arrays.asList(scanner.getIncludedFiles()));
-
-        // get mapping from process id to file path
-        processIdToPathMap = createProcessIdToPathMap(processdefinitions);
-
-        // get file paths of java files
-
-        URL[] urls;
-        LinkedList<File> files = new LinkedList<File>();
+        // walk each root once and sort the files by extension, decision tables and scripts are taken from the java
+        // root like before
+        final FileCollector resourceFiles = new FileCollector(Paths.get(ConstantsConfig.BASEPATH), false,
+                ConstantsConfig.BPMN_FILE_EXTENSION);
+        final FileCollector javaFiles = new FileCollector(Paths.get(ConstantsConfig.JAVAPATH), false,
+                ConstantsConfig.JAVA_FILE_EXTENSION, ConstantsConfig.DMN_FILE_EXTENSION,
+                ConstantsConfig.SCRIPT_FILE_EXTENSION);
+        final List<FileCollector> collectors = new ArrayList<FileCollector>();
+        collectors.add(resourceFiles);
+        collectors.add(javaFiles);
 
         URLClassLoader ucl;
         if (RuntimeConfig.getInstance().getClassLoader() instanceof URLClassLoader) {
@@ -119,26 +107,38 @@ public class FileScanner {
         } else {
             ucl = ((URLClassLoader) RuntimeConfig.getInstance().getClassLoader().getParent());
         }
-        urls = ucl.getURLs();
 
-        // retrieve all jars during runtime and pass them to get class files
-        for (URL url : urls) {
+        // retrieve all class folders during runtime and pass them to get class files
+        final List<FileCollector> classFiles = new ArrayList<FileCollector>();
+        for (final URL url : ucl.getURLs()) {
             if (url.getFile().contains(targetClassFolder)) {
-                File f = new File(url.getFile());
+                final File f = new File(url.getFile());
                 if (f.exists()) {
-                    files = (LinkedList<File>) FileUtils.listFiles(f,
-                            TrueFileFilter.INSTANCE,
-                            TrueFileFilter.INSTANCE);
-                    addResources(files);
+                    classFiles.add(new FileCollector(f.toPath(), true, ConstantsConfig.CLASS_FILE_EXTENSION));
                 }
             }
         }
+        collectors.addAll(classFiles);
+
+        walkFileTrees(collectors);
+
+        // get file paths of process definitions
+        processdefinitions = resourceFiles.getFiles(ConstantsConfig.BPMN_FILE_EXTENSION);
+
+        // get file paths of java files
+        javaResourcesFileInputStream = javaFiles.getFiles(ConstantsConfig.JAVA_FILE_EXTENSION);
+
+        // process classes and add all files to includedFiles
+        for (final FileCollector collector : classFiles) {
+            javaResources.addAll(collector.getFiles(ConstantsConfig.CLASS_FILE_EXTENSION));
+            includedFiles.addAll(collector.getAllFiles());
+        }
+
+        // get mapping from process id to file path
+        processIdToPathMap = createProcessIdToPathMap(processdefinitions);
 
         // get mapping from decision reference to file path
-        scanner.setIncludes(new String[] { ConstantsConfig.DMN_FILE_PATTERN });
-        scanner.scan();
-        decisionRefToPathMap = createDmnKeyToPathMap(
-                new HashSet<String>(Arrays.asList(scanner.getIncludedFiles())));
+        decisionRefToPathMap = createDmnKeyToPathMap(javaFiles.getFiles(ConstantsConfig.DMN_FILE_EXTENSION));
 
         // determine version name schema for resources
         String versioningSchema = null;
@@ -151,26 +151,57 @@ public class FileScanner {
 
         if (versioningSchema != null) {
             // also add groovy files to included files
-            scanner.setIncludes(new String[] { ConstantsConfig.SCRIPT_FILE_PATTERN });
-            scanner.scan();
-            includedFiles.addAll(Arrays.asList(scanner.getIncludedFiles()));
+            includedFiles.addAll(javaFiles.getFiles(ConstantsConfig.SCRIPT_FILE_EXTENSION));
 
             // filter files by versioningSchema
-            resourcesNewestVersions = createResourcesToNewestVersions(includedFiles, versioningSchema);
+            versionedResources = VersionedResourceIndex.create(includedFiles, versioningSchema);
         }
     }
 
     /**
-     * process classes and add resource add all files to includedFiles
+     * collects the process definitions only, without scanning java sources and classes
      *
+     * @return file paths of the process definitions relative to the resource folder
      */
-    private void addResources(LinkedList<File> classes) {
+    public static Set<String> scanProcessdefinitions() {
+        final FileCollector resourceFiles = new FileCollector(Paths.get(ConstantsConfig.BASEPATH), false,
+                ConstantsConfig.BPMN_FILE_EXTENSION);
+        try {
+            resourceFiles.walk();
+        } catch (final IOException ex) {
+            throw new RuntimeException("resources couldn't be scanned", ex);
+        }
+        return resourceFiles.getFiles(ConstantsConfig.BPMN_FILE_EXTENSION);
+    }
 
-        for (File file : classes) {
-            if (file.getName().endsWith(".class")) {
-                javaResources.add(file.getName());
+    /**
+     * walk the file trees of all collectors in parallel
+     *
+     * @param collectors
+     */
+    private static void walkFileTrees(final List<FileCollector> collectors) {
+        final ExecutorService executor = Executors.newFixedThreadPool(collectors.size());
+        try {
+            final List<Future<Void>> walks = new ArrayList<Future<Void>>();
+            for (final FileCollector collector : collectors) {
+                walks.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        collector.walk();
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> walk : walks) {
+                walk.get();
             }
-            includedFiles.add(file.getName());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("scan of resources was interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException("resources couldn't be scanned", ex.getCause());
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -216,7 +247,7 @@ public class FileScanner {
      * @return resourcesNewestVersions returns resourcesNewestVersions
      */
     public Collection<String> getResourcesNewestVersions() {
-        return resourcesNewestVersions;
+        return versionedResources.getNewestVersions();
     }
 
     /**
@@ -251,23 +282,16 @@ public class FileScanner {
         final Map<String, String> keyToPathMap = new HashMap<String, String>();
 
         for (final String path : paths) {
-            // read bpmn file
-            BpmnModelInstance modelInstance = null;
+            // read process ids of bpmn file
+            final Collection<String> processIds;
             try {
-                modelInstance = Bpmn.readModelFromFile(new File(ConstantsConfig.BASEPATH + path));
-            } catch (final BpmnModelException ex) {
+                processIds = ModelIdScanner.readProcessIds(new File(ConstantsConfig.BASEPATH + path));
+            } catch (final IOException | XMLStreamException ex) {
                 throw new RuntimeException("bpmn model couldn't be read", ex);
             }
-            // if bpmn file could read
-            if (modelInstance != null) {
-                // find process
-                final Collection<Process> processes = modelInstance.getModelElementsByType(Process.class);
-                if (processes != null) {
-                    for (final Process process : processes) {
-                        // save path for each process
-                        keyToPathMap.put(process.getId(), path);
-                    }
-                }
+            for (final String processId : processIds) {
+                // save path for each process
+                keyToPathMap.put(processId, path);
             }
         }
         return keyToPathMap;
@@ -284,59 +308,22 @@ public class FileScanner {
         final Map<String, String> keyToPathMap = new HashMap<String, String>();
 
         for (final String path : paths) {
-            // read dmn file
-            DmnModelInstance modelInstance = null;
+            // read decision ids of dmn file
+            final Collection<String> decisionIds;
             try {
-                modelInstance = Dmn.readModelFromFile(new File(ConstantsConfig.BASEPATH + path));
-            } catch (final DmnModelException ex) {
+                decisionIds = ModelIdScanner.readDecisionIds(new File(ConstantsConfig.BASEPATH + path));
+            } catch (final IOException | XMLStreamException ex) {
                 throw new RuntimeException("dmn model couldn't be read", ex);
             }
-            // if dmn could read
-            if (modelInstance != null) {
-                // find decisions
-                final Collection<Decision> decisions = modelInstance.getModelElementsByType(Decision.class);
-                if (decisions != null) {
-                    for (final Decision decision : decisions) {
-                        // save path for each decision
-                        keyToPathMap.put(decision.getId(), path);
-                    }
-                }
+            for (final String decisionId : decisionIds) {
+                // save path for each decision
+                keyToPathMap.put(decisionId, path);
             }
         }
 
         return keyToPathMap;
     }
 
-    /**
-     * reads versioned classes and scripts and generates a map with newest versions
-     *
-     * @return Map
-     */
-    private static Collection<String> createResourcesToNewestVersions(
-            final Set<String> versionedFiles, final String versioningSchema) {
-        final Map<String, String> newestVersionsMap = new HashMap<String, String>();
-
-        if (versionedFiles != null) {
-            for (final String versionedFile : versionedFiles) {
-                final Pattern pattern = Pattern.compile(versioningSchema);
-                final Matcher matcher = pattern.matcher(versionedFile);
-                while (matcher.find()) {
-                    final String resource = matcher.group(1);
-                    final String oldVersion = newestVersionsMap.get(resource);
-                    if (oldVersion != null) {
-                        // If smaller than 0 this version is newer
-                        if (oldVersion.compareTo(versionedFile) < 0) {
-                            newestVersionsMap.put(resource, versionedFile);
-                        }
-                    } else {
-                        newestVersionsMap.put(resource, versionedFile);
-                    }
-                }
-            }
-        }
-        return newestVersionsMap.values();
-    }
-
     /**
      * determine versioning schema for an active versioning checker
      *
@@ -363,4 +350,82 @@ public class FileScanner {
     public Set<String> getJavaResourcesFileInputStream() {
         return javaResourcesFileInputStream;
     }
+
+    /**
+     * collects the files of a root directory by extension in a single walk
+     *
+     * Hidden directories (e.g. .git or .svn) and folders of version control systems are skipped.
+     */
+    private static final class FileCollector extends SimpleFileVisitor<Path> {
+
+        private final Path root;
+
+        private final boolean fileNamesOnly;
+
+        private final Map<String, Set<String>> filesByExtension = new HashMap<String, Set<String>>();
+
+        private final Set<String> allFiles = new HashSet<String>();
+
+        /**
+         * @param root
+         *            root directory
+         * @param fileNamesOnly
+         *            collect file names instead of paths relative to the root
+         * @param extensions
+         *            extensions to sort the files by
+         */
+        private FileCollector(final Path root, final boolean fileNamesOnly, final String... extensions) {
+            this.root = root;
+            this.fileNamesOnly = fileNamesOnly;
+            for (final String extension : extensions) {
+                filesByExtension.put(extension, new HashSet<String>());
+            }
+        }
+
+        private void walk() throws IOException {
+            if (Files.isDirectory(root)) {
+                Files.walkFileTree(root, this);
+            }
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            if (!dir.equals(root)) {
+                final String name = dir.getFileName().toString();
+                if (name.startsWith(".") || name.equals("CVS") || name.equals("SCCS")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            final String name = file.getFileName().toString();
+            final String entry = fileNamesOnly ? name : root.relativize(file).toString();
+            allFiles.add(entry);
+            final int dot = name.lastIndexOf('.');
+            if (dot >= 0) {
+                final Set<String> files = filesByExtension.get(name.substring(dot));
+                if (files != null) {
+                    files.add(entry);
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            logger.warning("file " + file + " couldn't be read: " + exc.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        private Set<String> getFiles(final String extension) {
+            return filesByExtension.get(extension);
+        }
+
+        private Set<String> getAllFiles() {
+            return allFiles;
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streams bpmn and dmn files to read the ids of processes and decisions without building a model instance
+ *
+ */
+public final class ModelIdScanner {
+
+    private static final String PROCESS = "process";
+
+    private static final String DECISION = "decision";
+
+    private static final String BPMN_DIAGRAM = "BPMNDiagram";
+
+    private static final String ID = "id";
+
+    private static final XMLInputFactory factory = createFactory();
+
+    private ModelIdScanner() {
+    }
+
+    /**
+     * Read the ids of all processes of a bpmn file
+     *
+     * @param file
+     *            bpmn file
+     * @return process ids
+     * @throws IOException
+     *             possible exception if file not found
+     * @throws XMLStreamException
+     *             possible exception while process xml
+     */
+    public static Collection<String> readProcessIds(final File file) throws IOException, XMLStreamException {
+        // processes are located in front of the diagram information
+        return readRootElementIds(file, PROCESS, BPMN_DIAGRAM);
+    }
+
+    /**
+     * Read the ids of all decisions of a dmn file
+     *
+     * @param file
+     *            dmn file
+     * @return decision ids
+     * @throws IOException
+     *             possible exception if file not found
+     * @throws XMLStreamException
+     *             possible exception while process xml
+     */
+    public static Collection<String> readDecisionIds(final File file) throws IOException, XMLStreamException {
+        return readRootElementIds(file, DECISION, null);
+    }
+
+    /**
+     * Read the ids of the children of the definitions element with the given local name. Nested elements are not
+     * considered.
+     *
+     * @param file
+     * @param localName
+     *            local name of the elements
+     * @param stopElement
+     *            local name of a child of the definitions, where the scan can be finished
+     * @return ids
+     * @throws IOException
+     * @throws XMLStreamException
+     */
+    private static Collection<String> readRootElementIds(final File file, final String localName,
+            final String stopElement) throws IOException, XMLStreamException {
+
+        final Collection<String> ids = new ArrayList<String>();
+
+        try (final InputStream in = new FileInputStream(file)) {
+            final XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                int depth = 0;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if (depth == 2) {
+                            final String name = reader.getLocalName();
+                            if (name.equals(localName)) {
+                                final String id = reader.getAttributeValue(null, ID);
+                                if (id != null) {
+                                    ids.add(id);
+                                }
+                            } else if (name.equals(stopElement)) {
+                                break;
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return ids;
+    }
+
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+}
@@ -29,24 +29,29 @@
  */
 package de.viadee.bpm.vPAV;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.collections4.ListUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.tools.ant.DirectoryScanner;
-import org.apache.tools.ant.types.Resource;
 
 import groovyjarjarasm.asm.ClassReader;
 import groovyjarjarasm.asm.ClassVisitor;
@@ -60,6 +65,23 @@ import groovyjarjarasm.asm.Opcodes;
  */
 public class OuterProcessVariablesScanner {
 
+    private static final String FILTER_PATTERN = "'|\"| ";
+
+    private static final Pattern START_BY_MESSAGE_PATTERN = Pattern
+            .compile("\\.startProcessInstanceByMessage\\((\\w+),(.*)");
+
+    private static final Pattern START_BY_KEY_PATTERN = Pattern
+            .compile("\\.startProcessInstanceByKey\\((\\w+),(.*)");
+
+    private static final Pattern CORRELATE_MESSAGE_PATTERN = Pattern.compile("\\.correlateMessage\\((\\w+),(.*)");
+
+    /**
+     * keywords, one of which must occur in a file to be relevant. startProcessInstanceByMessage is covered by
+     * startProcessInstanceBy.
+     */
+    private static final byte[][] KEYWORDS = { "startProcessInstanceBy".getBytes(StandardCharsets.US_ASCII),
+            "correlateMessage".getBytes(StandardCharsets.US_ASCII) };
+
     private Set<String> javaResources;
 
     private Map<String, Collection<String>> messageIdToVariableMap = new HashMap<String, Collection<String>>();
@@ -73,43 +95,106 @@ public class OuterProcessVariablesScanner {
     /**
      * scan variables
      *
+     * The java files are scanned in parallel. The results are merged afterwards in the order of the file paths, so
+     * that the resulting maps don't depend on the scheduling of the threads.
+     *
      * @throws IOException
      *             possible exception if filepath can not be resolved
      */
     public void scanProcessVariables() throws IOException {
-        for (final String filePath : javaResources) {
-            if (!filePath.startsWith("javax")) {
-                final String content = readResourceFile(filePath);
-                if (content != null) {
-                    final Collection<String> initialProcessVariablesInFilePath = readVariablesOfInnerClassInitialProcessVariables(
-                            filePath);
-                    if (!initialProcessVariablesInFilePath.isEmpty()) {
-                        // if correlateMessage and startProcessInstanceByMessage called
-                        // together in one class take the intersection to avoid duplicates
-                        final Set<String> messageIds = new HashSet<String>();
-                        messageIds.addAll(checkStartProcessByMessageIdPattern(content));
-                        messageIds.addAll(checkCorrelateMessagePattern(content));
-                        for (final String messageId : messageIds) {
-                            if (messageIdToVariableMap.containsKey(messageId)) {
-                                // if messageId is already set, create intersection of variables and overwrite map
-                                // item
-                                final Collection<String> existingProcessVariables = messageIdToVariableMap
-                                        .get(messageId);
-                                final List<String> intersectionProcessVariables = ListUtils.intersection(
-                                        (List<String>) existingProcessVariables,
-                                        (List<String>) initialProcessVariablesInFilePath);
-                                messageIdToVariableMap.put(messageId, intersectionProcessVariables);
-                            } else {
-                                messageIdToVariableMap.put(messageId, initialProcessVariablesInFilePath);
-                            }
-                        }
-                        final Collection<String> processIds = checkStartProcessByKeyPattern(content);
-                        for (final String processId : processIds) {
-                            processIdToVariableMap.put(processId, initialProcessVariablesInFilePath);
+        final List<String> filePaths = new ArrayList<String>(javaResources);
+        Collections.sort(filePaths);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            final List<Future<FileScanResult>> results = new ArrayList<Future<FileScanResult>>();
+            for (final String filePath : filePaths) {
+                if (!filePath.startsWith("javax")) {
+                    results.add(executor.submit(new Callable<FileScanResult>() {
+                        @Override
+                        public FileScanResult call() throws IOException {
+                            return scanFile(filePath);
                         }
-                    }
+                    }));
                 }
             }
+            for (final Future<FileScanResult> result : results) {
+                mergeResult(result.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("scan of process variables was interrupted", ex);
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * scan a single java file for message ids, process ids and initial process variables
+     *
+     * Files without any of the keywords are skipped before the content is decoded.
+     *
+     * @param filePath
+     * @return scan result or null, if the file doesn't set initial process variables
+     * @throws IOException
+     */
+    private FileScanResult scanFile(final String filePath) throws IOException {
+        final byte[] bytes = readResourceFile(filePath);
+        if (bytes != null && containsKeyword(bytes)) {
+            final Collection<String> initialProcessVariablesInFilePath = readVariablesOfInnerClassInitialProcessVariables(
+                    filePath);
+            if (!initialProcessVariablesInFilePath.isEmpty()) {
+                // remove special characters from code
+                final String content = new String(bytes, Charset.defaultCharset()).replaceAll(FILTER_PATTERN, "");
+
+                // if correlateMessage and startProcessInstanceByMessage called
+                // together in one class take the intersection to avoid duplicates
+                final Set<String> messageIds = new HashSet<String>();
+                messageIds.addAll(checkStartProcessByMessageIdPattern(content));
+                messageIds.addAll(checkCorrelateMessagePattern(content));
+                final Collection<String> processIds = checkStartProcessByKeyPattern(content);
+                return new FileScanResult(initialProcessVariablesInFilePath, messageIds, processIds);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * merge the result of a single file into the mappings
+     *
+     * Message ids found in several files get the intersection of the variables. For process ids the last file (in
+     * order of the file paths) wins.
+     *
+     * @param result
+     */
+    private void mergeResult(final FileScanResult result) {
+        if (result == null) {
+            return;
+        }
+        for (final String messageId : result.messageIds) {
+            if (messageIdToVariableMap.containsKey(messageId)) {
+                // if messageId is already set, create intersection of variables and overwrite map
+                // item
+                final Collection<String> existingProcessVariables = messageIdToVariableMap
+                        .get(messageId);
+                final List<String> intersectionProcessVariables = ListUtils.intersection(
+                        (List<String>) existingProcessVariables,
+                        (List<String>) result.initialProcessVariables);
+                messageIdToVariableMap.put(messageId, intersectionProcessVariables);
+            } else {
+                messageIdToVariableMap.put(messageId, result.initialProcessVariables);
+            }
+        }
+        for (final String processId : result.processIds) {
+            processIdToVariableMap.put(processId, result.initialProcessVariables);
         }
     }
 
@@ -132,63 +217,75 @@ public class OuterProcessVariablesScanner {
     }
 
     /**
-     * read resource file
+     * read resource file relative to the java base path
      *
-     * @param fileName
-     *            Name of file
-     * @return methodBody returns methodBody
+     * @param filePath
+     *            path of file
+     * @return content of the file or null, if the file doesn't exist
      */
-    @SuppressWarnings("deprecation")
-    private String readResourceFile(final String filePath) {
-        String methodBody = "";
-
-        if (filePath != null && filePath.trim().length() > 0) {
+    private byte[] readResourceFile(final String filePath) {
+        final Path file = RuntimeConfig.getInstance().getResourceResolver().resolveSource(filePath);
+        if (file != null) {
             try {
-                final DirectoryScanner scanner = new DirectoryScanner();
-
-                if (RuntimeConfig.getInstance().isTest()) {
-                    scanner.setBasedir(ConstantsConfig.TEST_JAVAPATH);
-                } else {
-                    scanner.setBasedir(ConstantsConfig.JAVAPATH);
-                }
-
-                Resource s = scanner.getResource(filePath);
-
-                if (s.isExists()) {
-
-                    InputStreamReader resource = new InputStreamReader(new FileInputStream(s.toString()));
-
-                    methodBody = IOUtils.toString(resource);
-
-                } else {
-
-                }
+                return Files.readAllBytes(file);
             } catch (final IOException ex) {
                 throw new RuntimeException(
                         "resource '" + filePath + "' could not be read: " + ex.getMessage());
             }
-
         }
+        return null;
+    }
 
-        return methodBody;
+    /**
+     * check whether the content contains one of the keywords
+     *
+     * @param content
+     * @return true, if a keyword was found
+     */
+    private static boolean containsKeyword(final byte[] content) {
+        for (final byte[] keyword : KEYWORDS) {
+            if (indexOf(content, keyword) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * search the first occurrence of a byte sequence
+     *
+     * @param content
+     * @param sequence
+     * @return index or -1, if the sequence was not found
+     */
+    private static int indexOf(final byte[] content, final byte[] sequence) {
+        final byte first = sequence[0];
+        final int max = content.length - sequence.length;
+        for (int i = 0; i <= max; i++) {
+            if (content[i] == first) {
+                int j = 1;
+                while (j < sequence.length && content[i + j] == sequence[j]) {
+                    j++;
+                }
+                if (j == sequence.length) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
     /**
      * check pattern for startProcessInstanceByMessage
      *
-     * @param code
+     * @param cleanedCode
+     *            code without quotes and blanks
      * @return message ids
      */
-    private Collection<String> checkStartProcessByMessageIdPattern(final String code) {
-
-        // remove special characters from code
-        final String FILTER_PATTERN = "'|\"| ";
-        final String cleanedCode = code.replaceAll(FILTER_PATTERN, "");
+    private Collection<String> checkStartProcessByMessageIdPattern(final String cleanedCode) {
 
         // search locations where variables are read
-        final Pattern pattern = Pattern.compile("\\.startProcessInstanceByMessage\\((\\w+),(.*)");
-        final Matcher matcher = pattern.matcher(cleanedCode);
+        final Matcher matcher = START_BY_MESSAGE_PATTERN.matcher(cleanedCode);
 
         final Collection<String> messageIds = new ArrayList<String>();
         while (matcher.find()) {
@@ -202,18 +299,14 @@ public class OuterProcessVariablesScanner {
     /**
      * check pattern for startProcessInstanceByKey
      *
-     * @param code
+     * @param cleanedCode
+     *            code without quotes and blanks
      * @return process keys
      */
-    private Collection<String> checkStartProcessByKeyPattern(final String code) {
-
-        // remove special characters from code
-        final String FILTER_PATTERN = "'|\"| ";
-        final String cleanedCode = code.replaceAll(FILTER_PATTERN, "");
+    private Collection<String> checkStartProcessByKeyPattern(final String cleanedCode) {
 
         // search locations where variables are read
-        final Pattern pattern = Pattern.compile("\\.startProcessInstanceByKey\\((\\w+),(.*)");
-        final Matcher matcher = pattern.matcher(cleanedCode);
+        final Matcher matcher = START_BY_KEY_PATTERN.matcher(cleanedCode);
 
         final Collection<String> processIds = new ArrayList<String>();
         while (matcher.find()) {
@@ -227,18 +320,14 @@ public class OuterProcessVariablesScanner {
     /**
      * check pattern for correlateMessage
      *
-     * @param code
+     * @param cleanedCode
+     *            code without quotes and blanks
      * @return message ids
      */
-    private Collection<String> checkCorrelateMessagePattern(final String code) {
-
-        // remove special characters from code
-        final String FILTER_PATTERN = "'|\"| ";
-        final String cleanedCode = code.replaceAll(FILTER_PATTERN, "");
+    private Collection<String> checkCorrelateMessagePattern(final String cleanedCode) {
 
         // search locations where variables are read
-        final Pattern pattern = Pattern.compile("\\.correlateMessage\\((\\w+),(.*)");
-        final Matcher matcher = pattern.matcher(cleanedCode);
+        final Matcher matcher = CORRELATE_MESSAGE_PATTERN.matcher(cleanedCode);
 
         final Collection<String> messageIds = new ArrayList<String>();
         while (matcher.find()) {
@@ -280,11 +369,34 @@ public class OuterProcessVariablesScanner {
                 InputStream in = RuntimeConfig.getInstance().getClassLoader()
                         .getResourceAsStream(splittedFilePath[0] + "$InitialProcessVariables.class");
                 if (in != null) {
-                    ClassReader classReader = new ClassReader(in);
-                    classReader.accept(cl, 0);
+                    try {
+                        ClassReader classReader = new ClassReader(in);
+                        classReader.accept(cl, 0);
+                    } finally {
+                        in.close();
+                    }
                 }
             }
         }
         return processVariables;
     }
+
+    /**
+     * holds the findings of a single java file
+     */
+    private static final class FileScanResult {
+
+        private final Collection<String> initialProcessVariables;
+
+        private final Collection<String> messageIds;
+
+        private final Collection<String> processIds;
+
+        private FileScanResult(final Collection<String> initialProcessVariables,
+                final Collection<String> messageIds, final Collection<String> processIds) {
+            this.initialProcessVariables = initialProcessVariables;
+            this.messageIds = messageIds;
+            this.processIds = processIds;
+        }
+    }
 }
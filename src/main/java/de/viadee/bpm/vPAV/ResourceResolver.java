@@ -0,0 +1,159 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Resolves resources like java classes, scripts and forms to their files and remembers found and missing files for
+ * the current run
+ *
+ */
+public class ResourceResolver {
+
+    public static Logger logger = Logger.getLogger(ResourceResolver.class.getName());
+
+    private final ConcurrentMap<Path, Boolean> existingFiles = new ConcurrentHashMap<Path, Boolean>();
+
+    private final ConcurrentMap<String, AtomicInteger> missingReferences = new ConcurrentHashMap<String, AtomicInteger>();
+
+    /**
+     * resolve a java file or a resource relative to the base path of the project
+     *
+     * Java files are searched in the source folder, other resources in the resource folder.
+     *
+     * @param fileName
+     *            path of the file relative to the base path
+     * @return file or null, if the file doesn't exist
+     */
+    public Path resolveSource(final String fileName) {
+        return resolve(getBasePath(fileName), fileName);
+    }
+
+    /**
+     * resolve a resource, which is referenced in a model
+     *
+     * A missing resource is counted and reported once by {@link #logMissingResources()}.
+     *
+     * @param basePath
+     *            directory of the resource
+     * @param fileName
+     *            path of the file relative to the base path
+     * @return file or null, if the file doesn't exist
+     */
+    public Path resolveReference(final String basePath, final String fileName) {
+        final Path file = resolve(basePath, fileName);
+        if (file == null && fileName != null && !fileName.trim().isEmpty()) {
+            AtomicInteger references = missingReferences.get(fileName);
+            if (references == null) {
+                final AtomicInteger newReferences = new AtomicInteger();
+                references = missingReferences.putIfAbsent(fileName, newReferences);
+                if (references == null) {
+                    references = newReferences;
+                }
+            }
+            references.incrementAndGet();
+        }
+        return file;
+    }
+
+    /**
+     * resolve a java file or a resource, which is referenced in a model
+     *
+     * @param fileName
+     *            path of the file relative to the base path
+     * @return file or null, if the file doesn't exist
+     */
+    public Path resolveSourceReference(final String fileName) {
+        return resolveReference(getBasePath(fileName), fileName);
+    }
+
+    /**
+     * resolve a file relative to a base path
+     *
+     * @param basePath
+     *            directory of the resource
+     * @param fileName
+     *            path of the file relative to the base path
+     * @return file or null, if the file doesn't exist
+     */
+    public Path resolve(final String basePath, final String fileName) {
+        if (fileName == null || fileName.trim().isEmpty()) {
+            return null;
+        }
+        final Path file = Paths.get(basePath).resolve(fileName);
+        Boolean exists = existingFiles.get(file);
+        if (exists == null) {
+            exists = Files.isRegularFile(file);
+            existingFiles.putIfAbsent(file, exists);
+        }
+        return exists ? file : null;
+    }
+
+    /**
+     * get the number of references to each missing resource
+     *
+     * @return references by file name
+     */
+    public Map<String, Integer> getMissingReferences() {
+        final Map<String, Integer> references = new TreeMap<String, Integer>();
+        for (final Map.Entry<String, AtomicInteger> entry : missingReferences.entrySet()) {
+            references.put(entry.getKey(), entry.getValue().get());
+        }
+        return references;
+    }
+
+    /**
+     * log a single warning for each missing resource
+     */
+    public void logMissingResources() {
+        for (final Map.Entry<String, Integer> entry : getMissingReferences().entrySet()) {
+            logger.warning("Resource " + entry.getKey() + " does not exist (referenced " + entry.getValue()
+                    + (entry.getValue() == 1 ? " time)" : " times)"));
+        }
+    }
+
+    private static String getBasePath(final String fileName) {
+        final boolean javaFile = fileName != null && fileName.endsWith(ConstantsConfig.JAVA_FILE_EXTENSION);
+        if (RuntimeConfig.getInstance().isTest()) {
+            return javaFile ? ConstantsConfig.TEST_JAVAPATH : ConstantsConfig.TEST_BASEPATH;
+        } else {
+            return javaFile ? ConstantsConfig.JAVAPATH : ConstantsConfig.BASEPATH;
+        }
+    }
+}
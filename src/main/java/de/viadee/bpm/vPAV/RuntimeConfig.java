@@ -29,6 +29,7 @@
  */
 package de.viadee.bpm.vPAV;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.util.Map;
 
@@ -43,6 +44,10 @@ public class RuntimeConfig {
 
     private ClassLoader classLoader;
 
+    private ClassIndex classIndex;
+
+    private ResourceResolver resourceResolver;
+
     private boolean test = false;
 
     private String[] allRules = { "ProcessVariablesLocation", "XorNamingConventionChecker",
@@ -77,12 +82,41 @@ public class RuntimeConfig {
 
     public void setClassLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        this.classIndex = null;
     }
 
     public ClassLoader getClassLoader() {
         return classLoader;
     }
 
+    /**
+     * get index of the class hierarchy for the current class loader
+     *
+     * @return classIndex
+     */
+    public synchronized ClassIndex getClassIndex() {
+        if (classIndex == null) {
+            classIndex = new ClassIndex(classLoader, new File(ConstantsConfig.CLASS_INDEX));
+        }
+        return classIndex;
+    }
+
+    /**
+     * get resolver for the resources of the current run
+     *
+     * @return resourceResolver
+     */
+    public synchronized ResourceResolver getResourceResolver() {
+        if (resourceResolver == null) {
+            resourceResolver = new ResourceResolver();
+        }
+        return resourceResolver;
+    }
+
+    public synchronized void setResourceResolver(ResourceResolver resourceResolver) {
+        this.resourceResolver = resourceResolver;
+    }
+
     public ClassLoader getClassLoader(MavenProject project)
             throws MalformedURLException, DependencyResolutionRequiredException {
         return FileScanner.getClassLoader(project);
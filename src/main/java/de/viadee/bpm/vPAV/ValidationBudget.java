@@ -0,0 +1,143 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+
+/**
+ * Limits of a validation run for CI gates
+ *
+ * A fail-fast run stops after the first error or after a maximum number of issues. It skips the path enumeration
+ * once it is exhausted and writes no reports. A run with a time budget checks the models with the highest risk first
+ * and reports the issues found until the budget runs out.
+ *
+ */
+public class ValidationBudget {
+
+    private final boolean stopAtFirstError;
+
+    private final int maxIssues;
+
+    private final long timeBudgetMillis;
+
+    private Set<String> ignoredIssues = Collections.emptySet();
+
+    private long deadline;
+
+    private int issueCount;
+
+    private int errorCount;
+
+    /**
+     * @param stopAtFirstError
+     *            stop after the first issue with criticality ERROR
+     * @param maxIssues
+     *            stop after this number of issues, 0 for no limit
+     * @param timeBudgetMillis
+     *            stop after this time in milliseconds, 0 for no limit
+     */
+    public ValidationBudget(final boolean stopAtFirstError, final int maxIssues, final long timeBudgetMillis) {
+        this.stopAtFirstError = stopAtFirstError;
+        this.maxIssues = maxIssues;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * budget of a complete run
+     *
+     * @return budget without limits
+     */
+    public static ValidationBudget unlimited() {
+        return new ValidationBudget(false, 0, 0);
+    }
+
+    /**
+     * start the clock and reset the counters
+     *
+     * @param ignoredIssues
+     *            ids of issues, which don't count against the budget
+     */
+    public void start(final Collection<String> ignoredIssues) {
+        this.ignoredIssues = new HashSet<String>(ignoredIssues);
+        this.deadline = timeBudgetMillis > 0 ? System.currentTimeMillis() + timeBudgetMillis : 0;
+        this.issueCount = 0;
+        this.errorCount = 0;
+    }
+
+    /**
+     * count the issues of a check
+     *
+     * @param issues
+     *            new issues
+     */
+    public void record(final Collection<CheckerIssue> issues) {
+        if (!isFailFast()) {
+            // only the time budget applies, so the issues don't need to be counted
+            return;
+        }
+        for (final CheckerIssue issue : issues) {
+            // the id is a hash, so it is only computed if there are ignored issues
+            if (ignoredIssues.isEmpty() || !ignoredIssues.contains(issue.getId())) {
+                issueCount++;
+                if (issue.getClassification() == CriticalityEnum.ERROR) {
+                    errorCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true, if the run should be stopped
+     */
+    public boolean isExhausted() {
+        return (stopAtFirstError && errorCount > 0) || (maxIssues > 0 && issueCount >= maxIssues)
+                || (deadline > 0 && System.currentTimeMillis() >= deadline);
+    }
+
+    /**
+     * @return true, if the run stops on issues and needs no reports
+     */
+    public boolean isFailFast() {
+        return stopAtFirstError || maxIssues > 0;
+    }
+
+    /**
+     * @return true, if the run is limited in time
+     */
+    public boolean hasTimeBudget() {
+        return timeBudgetMillis > 0;
+    }
+}
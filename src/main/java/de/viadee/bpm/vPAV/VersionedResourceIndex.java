@@ -0,0 +1,147 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of versioned classes and scripts, which holds the file names of the newest version of each resource
+ *
+ */
+public final class VersionedResourceIndex {
+
+    private final Set<String> newestVersions;
+
+    private VersionedResourceIndex(final Map<String, String> newestVersionByResource) {
+        this.newestVersions = Collections.unmodifiableSet(new HashSet<String>(newestVersionByResource.values()));
+    }
+
+    /**
+     * reads versioned classes and scripts and determines the newest version of each resource
+     *
+     * @param versionedFiles
+     *            file names of classes and scripts
+     * @param versioningSchema
+     *            regular expression, the first group identifies the resource
+     * @return index
+     */
+    public static VersionedResourceIndex create(final Collection<String> versionedFiles,
+            final String versioningSchema) {
+        final Map<String, String> newestVersionByResource = new HashMap<String, String>();
+
+        if (versionedFiles != null) {
+            final Matcher matcher = Pattern.compile(versioningSchema).matcher("");
+            for (final String versionedFile : versionedFiles) {
+                matcher.reset(versionedFile);
+                while (matcher.find()) {
+                    final String resource = matcher.group(1);
+                    final String oldVersion = newestVersionByResource.get(resource);
+                    if (oldVersion == null || compareVersions(oldVersion, versionedFile) < 0) {
+                        newestVersionByResource.put(resource, versionedFile);
+                    }
+                }
+            }
+        }
+        return new VersionedResourceIndex(newestVersionByResource);
+    }
+
+    /**
+     * get the newest versions of all resources
+     *
+     * @return file names of newest versions
+     */
+    public Set<String> getNewestVersions() {
+        return newestVersions;
+    }
+
+    /**
+     * compares two file names chunk by chunk, digit sequences by their numeric value
+     *
+     * @param first
+     * @param second
+     * @return negative, zero or positive value like {@link Comparable#compareTo(Object)}
+     */
+    static int compareVersions(final String first, final String second) {
+        int i = 0;
+        int j = 0;
+        while (i < first.length() && j < second.length()) {
+            final char a = first.charAt(i);
+            final char b = second.charAt(j);
+            if (Character.isDigit(a) && Character.isDigit(b)) {
+                // skip leading zeros, the longer remaining digit sequence is the bigger number
+                int startA = i;
+                int startB = j;
+                while (startA < first.length() - 1 && first.charAt(startA) == '0'
+                        && Character.isDigit(first.charAt(startA + 1))) {
+                    startA++;
+                }
+                while (startB < second.length() - 1 && second.charAt(startB) == '0'
+                        && Character.isDigit(second.charAt(startB + 1))) {
+                    startB++;
+                }
+                int endA = startA;
+                int endB = startB;
+                while (endA < first.length() && Character.isDigit(first.charAt(endA))) {
+                    endA++;
+                }
+                while (endB < second.length() && Character.isDigit(second.charAt(endB))) {
+                    endB++;
+                }
+                final int lengthDiff = (endA - startA) - (endB - startB);
+                if (lengthDiff != 0) {
+                    return lengthDiff;
+                }
+                for (int k = 0; k < endA - startA; k++) {
+                    final int diff = first.charAt(startA + k) - second.charAt(startB + k);
+                    if (diff != 0) {
+                        return diff;
+                    }
+                }
+                i = endA;
+                j = endB;
+            } else {
+                if (a != b) {
+                    return a - b;
+                }
+                i++;
+                j++;
+            }
+        }
+        final int remaining = (first.length() - i) - (second.length() - j);
+        return remaining != 0 ? remaining : first.compareTo(second);
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.beans;
+
+import java.beans.Introspector;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.apache.commons.io.FileUtils;
+
+import de.viadee.bpm.vPAV.ClassFile;
+
+/**
+ * reads the bean mapping from the bytecode of compiled classes
+ *
+ * Classes annotated with a spring stereotype (@Component, @Service, @Repository, @Controller) or @Named are
+ * registered with the name given in the annotation or the decapitalized simple class name. No class is loaded and no
+ * application context is needed. The class files are read without a bytecode library, so classes compiled for any
+ * java release are found.
+ */
+public class BeanMappingClassScanner {
+
+    public static Logger logger = Logger.getLogger(BeanMappingClassScanner.class.getName());
+
+    private static final Set<String> BEAN_ANNOTATIONS = new HashSet<String>();
+
+    static {
+        BEAN_ANNOTATIONS.add("Lorg/springframework/stereotype/Component;");
+        BEAN_ANNOTATIONS.add("Lorg/springframework/stereotype/Service;");
+        BEAN_ANNOTATIONS.add("Lorg/springframework/stereotype/Repository;");
+        BEAN_ANNOTATIONS.add("Lorg/springframework/stereotype/Controller;");
+        BEAN_ANNOTATIONS.add("Ljavax/inject/Named;");
+    }
+
+    /**
+     * Scans a folder with compiled classes for annotated beans
+     *
+     * @param classFolder
+     *            folder with class files, e.g. target/classes
+     * @return beanNameToClassMap contains beanmapping
+     */
+    public static Map<String, String> scan(final File classFolder) {
+
+        final Map<String, String> beanNameToClassMap = new HashMap<String, String>();
+
+        if (classFolder == null || !classFolder.isDirectory()) {
+            return beanNameToClassMap;
+        }
+
+        final Collection<File> classFiles = FileUtils.listFiles(classFolder, new String[] { "class" }, true);
+        for (final File classFile : classFiles) {
+            try {
+                final ClassFile bean = readClassFile(classFile);
+                if (bean.isConcrete()) {
+                    final String beanName = getBeanName(bean);
+                    if (beanName != null) {
+                        beanNameToClassMap.put(beanName, bean.getClassName());
+                    }
+                }
+            } catch (final IOException ex) {
+                logger.warning("class file " + classFile.getPath() + " couldn't be read: " + ex.getMessage());
+            }
+        }
+
+        return beanNameToClassMap;
+    }
+
+    /**
+     * Read header and annotations of a class file
+     *
+     * @param classFile
+     * @return class file
+     * @throws IOException
+     */
+    private static ClassFile readClassFile(final File classFile) throws IOException {
+        try (final InputStream in = new BufferedInputStream(new FileInputStream(classFile))) {
+            return ClassFile.read(in, true);
+        }
+    }
+
+    /**
+     * bean name of the annotation or the default name (see spring's AnnotationBeanNameGenerator)
+     *
+     * @param classFile
+     * @return bean name or null, if the class isn't annotated as bean
+     */
+    private static String getBeanName(final ClassFile classFile) {
+        boolean annotated = false;
+        for (final Map.Entry<String, Map<String, String>> annotation : classFile.getAnnotations().entrySet()) {
+            if (BEAN_ANNOTATIONS.contains(annotation.getKey())) {
+                annotated = true;
+                final String value = annotation.getValue().get("value");
+                if (value != null && !value.isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        if (!annotated) {
+            return null;
+        }
+        final String className = classFile.getClassName();
+        final String shortName = className.substring(className.lastIndexOf('.') + 1).replace('$', '.');
+        return Introspector.decapitalize(shortName);
+    }
+}
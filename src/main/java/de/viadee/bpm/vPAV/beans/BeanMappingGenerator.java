@@ -29,10 +29,16 @@
  */
 package de.viadee.bpm.vPAV.beans;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
 /**
  * Helper methods for Maven Plugin CamundaStaticValidator
@@ -40,28 +46,69 @@ import org.springframework.context.ApplicationContext;
  */
 public class BeanMappingGenerator {
 
+    private static final Map<ApplicationContext, Map<String, String>> beanMappingCache = Collections
+            .synchronizedMap(new WeakHashMap<ApplicationContext, Map<String, String>>());
+
     /**
      * Generates bean mapping HashMap for jUnit start
      *
+     * The bean classes are determined by the bean definitions, so no bean is instantiated. The mapping is cached per
+     * context and therefore unmodifiable.
+     *
      * @param ctx
      *            ApplicationContext
      * @return beanNameToClassMap contains beanmapping
      */
     public static Map<String, String> generateBeanMappingFile(final ApplicationContext ctx) {
 
-        final Map<String, String> beanNameToClassMap = new HashMap<String, String>();
+        Map<String, String> beanNameToClassMap = beanMappingCache.get(ctx);
+        if (beanNameToClassMap != null) {
+            return beanNameToClassMap;
+        }
+
+        final Map<String, String> beanNameToClassMapping = new HashMap<String, String>();
 
         // read bean names
         final String[] beanDefinitionNames = ctx.getBeanDefinitionNames();
         for (final String beanName : beanDefinitionNames) {
             // don't add spring own classes
             if (!beanName.startsWith("org.springframework")) {
-                final Object obj = ctx.getBean(beanName);
-                if (obj != null) {
-                    beanNameToClassMap.put(beanName, obj.getClass().getName());
+                final String className = getBeanClassName(ctx, beanName);
+                if (className != null) {
+                    beanNameToClassMapping.put(beanName, className);
                 }
             }
         }
+        beanNameToClassMap = Collections.unmodifiableMap(beanNameToClassMapping);
+        beanMappingCache.put(ctx, beanNameToClassMap);
         return beanNameToClassMap;
     }
+
+    /**
+     * Determine class name of a bean without creating it
+     *
+     * @param ctx
+     *            ApplicationContext
+     * @param beanName
+     *            name of bean
+     * @return class name or null, if it can't be determined
+     */
+    private static String getBeanClassName(final ApplicationContext ctx, final String beanName) {
+        try {
+            final Class<?> type = ctx.getType(beanName);
+            if (type != null) {
+                return type.getName();
+            }
+            // fall back to the class name of the bean definition
+            if (ctx instanceof ConfigurableApplicationContext) {
+                final ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) ctx)
+                        .getBeanFactory();
+                final BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+                return beanDefinition.getBeanClassName();
+            }
+        } catch (final NoSuchBeanDefinitionException ex) {
+            // bean has been removed in the meantime
+        }
+        return null;
+    }
 }
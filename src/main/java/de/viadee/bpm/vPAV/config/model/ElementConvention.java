@@ -29,6 +29,8 @@
  */
 package de.viadee.bpm.vPAV.config.model;
 
+import java.util.regex.Pattern;
+
 public class ElementConvention {
 
   private String name;
@@ -37,12 +39,20 @@ public class ElementConvention {
 
   private String pattern;
 
+  private final Pattern compiledPattern;
+
   public ElementConvention(final String name, final ElementFieldTypes elementFieldTypes,
       final String pattern) {
+    this(name, elementFieldTypes, pattern, Pattern.compile(pattern.trim()));
+  }
+
+  public ElementConvention(final String name, final ElementFieldTypes elementFieldTypes,
+      final String pattern, final Pattern compiledPattern) {
     super();
     this.name = name;
     this.elementFieldTypes = elementFieldTypes;
     this.pattern = pattern;
+    this.compiledPattern = compiledPattern;
   }
 
   public String getName() {
@@ -56,4 +66,13 @@ public class ElementConvention {
   public String getPattern() {
     return pattern;
   }
+
+  /**
+   * get the pattern, which is compiled once when the convention is created
+   *
+   * @return compiledPattern
+   */
+  public Pattern getCompiledPattern() {
+    return compiledPattern;
+  }
 }
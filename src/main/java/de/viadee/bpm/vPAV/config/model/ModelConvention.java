@@ -29,16 +29,25 @@
  */
 package de.viadee.bpm.vPAV.config.model;
 
+import java.util.regex.Pattern;
+
 public class ModelConvention {
 
   private String name;
 
   private String pattern;
 
+  private final Pattern compiledPattern;
+
   public ModelConvention(final String name, final String pattern) {
+    this(name, pattern, Pattern.compile(pattern.trim()));
+  }
+
+  public ModelConvention(final String name, final String pattern, final Pattern compiledPattern) {
     super();
     this.name = name;
     this.pattern = pattern;
+    this.compiledPattern = compiledPattern;
   }
 
   public String getName() {
@@ -48,4 +57,13 @@ public class ModelConvention {
   public String getPattern() {
     return pattern;
   }
+
+  /**
+   * get the pattern, which is compiled once when the convention is created
+   *
+   * @return compiledPattern
+   */
+  public Pattern getCompiledPattern() {
+    return compiledPattern;
+  }
 }
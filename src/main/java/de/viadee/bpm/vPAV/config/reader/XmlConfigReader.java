@@ -37,10 +37,10 @@ import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
+import de.viadee.bpm.vPAV.JaxbContexts;
 import de.viadee.bpm.vPAV.RuntimeConfig;
 import de.viadee.bpm.vPAV.config.model.ElementConvention;
 import de.viadee.bpm.vPAV.config.model.ElementFieldTypes;
@@ -60,8 +60,7 @@ public final class XmlConfigReader implements ConfigReader {
     public Map<String, Rule> read(final String file) throws ConfigReaderException {
 
         try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(XmlRuleSet.class);
-            final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+            final Unmarshaller jaxbUnmarshaller = JaxbContexts.get(XmlRuleSet.class).createUnmarshaller();
 
             InputStream fRuleSet = RuntimeConfig.getInstance().getClassLoader().getResourceAsStream(file);
 
@@ -107,24 +106,26 @@ public final class XmlConfigReader implements ConfigReader {
                         elementFieldTypes = new ElementFieldTypes(xmlElementFieldTypes.getElementFieldTypes(),
                                 xmlElementFieldTypes.isExcluded());
                     }
-                    if (!checkRegEx(xmlElementConvention.getPattern()))
+                    final Pattern pattern = compileRegEx(xmlElementConvention.getPattern());
+                    if (pattern == null)
                         throw new ConfigReaderException(
                                 "RegEx (" + xmlElementConvention.getPattern() + ") of " + name + " ("
                                         + xmlElementConvention.getName() + ") is incorrect");
                     elementConventions.add(new ElementConvention(xmlElementConvention.getName(),
-                            elementFieldTypes, xmlElementConvention.getPattern()));
+                            elementFieldTypes, xmlElementConvention.getPattern(), pattern));
                 }
             }
             final Collection<XmlModelConvention> xmlModelConventions = rule.getModelConventions();
             final Collection<ModelConvention> modelConventions = new ArrayList<ModelConvention>();
             if (xmlModelConventions != null) {
                 for (final XmlModelConvention xmlModelConvention : xmlModelConventions) {
-                    if (!checkRegEx(xmlModelConvention.getPattern()))
+                    final Pattern pattern = compileRegEx(xmlModelConvention.getPattern());
+                    if (pattern == null)
                         throw new ConfigReaderException(
                                 "RegEx (" + xmlModelConvention.getPattern() + ") of " + name + " ("
                                         + xmlModelConvention.getName() + ") is incorrect");
-                    modelConventions.add(
-                            new ModelConvention(xmlModelConvention.getName(), xmlModelConvention.getPattern()));
+                    modelConventions.add(new ModelConvention(xmlModelConvention.getName(),
+                            xmlModelConvention.getPattern(), pattern));
                 }
             }
             final Collection<XmlSetting> xmlSettings = rule.getSettings();
@@ -145,17 +146,20 @@ public final class XmlConfigReader implements ConfigReader {
         return rules;
     }
 
-    private static boolean checkRegEx(String regEx) {
-        boolean correct = false;
-
-        if (regEx.isEmpty())
-            return correct;
+    /**
+     * compiles the regex of a convention, so that the checkers can reuse it
+     *
+     * @param regEx
+     * @return pattern or null, if the regex is incorrect
+     */
+    private static Pattern compileRegEx(String regEx) {
+        if (regEx == null || regEx.isEmpty())
+            return null;
 
         try {
-            Pattern.compile(regEx);
-            correct = true;
+            return Pattern.compile(regEx.trim());
         } catch (PatternSyntaxException e) {
+            return null;
         }
-        return correct;
     }
 }
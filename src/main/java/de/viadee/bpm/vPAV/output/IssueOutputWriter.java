@@ -31,10 +31,8 @@ package de.viadee.bpm.vPAV.output;
 
 import java.util.Collection;
 
-import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
-
 public interface IssueOutputWriter {
 
-    void write(final Collection<CheckerIssue> issues) throws OutputWriterException;
+    void write(final Collection<IssueSnapshot> issues) throws OutputWriterException;
 
 }
@@ -0,0 +1,200 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.graph.Path;
+
+/**
+ * Immutable copy of an issue with everything the output writers need
+ *
+ * The id (md5 hash) and the names of the path elements (read from the dom) are computed once, so that the writers
+ * can share the snapshot and run in parallel.
+ */
+public final class IssueSnapshot {
+
+    private final String id;
+
+    private final String ruleName;
+
+    private final String classification;
+
+    private final String bpmnFile;
+
+    private final String resourceFile;
+
+    private final String elementId;
+
+    private final String elementName;
+
+    private final String variable;
+
+    private final String anomaly;
+
+    private final List<List<PathElement>> paths;
+
+    private final String message;
+
+    private IssueSnapshot(final CheckerIssue issue, final List<List<PathElement>> paths) {
+        this.id = issue.getId();
+        this.ruleName = issue.getRuleName();
+        this.classification = issue.getClassification().name();
+        this.bpmnFile = issue.getBpmnFile();
+        this.resourceFile = issue.getResourceFile();
+        this.elementId = issue.getElementId();
+        this.elementName = issue.getElementName();
+        this.variable = issue.getVariable();
+        this.anomaly = issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription();
+        this.paths = paths;
+        this.message = issue.getMessage();
+    }
+
+    /**
+     * create the snapshot of the issues, elements contained in several paths are only read once
+     *
+     * @param issues
+     *            issues
+     * @return unmodifiable list of snapshots in the order of the issues
+     */
+    public static List<IssueSnapshot> of(final Collection<CheckerIssue> issues) {
+        final Map<BpmnElement, PathElement> pathElements = new IdentityHashMap<BpmnElement, PathElement>();
+        final List<IssueSnapshot> snapshots = new ArrayList<IssueSnapshot>(issues.size());
+        for (final CheckerIssue issue : issues) {
+            final List<Path> invalidPaths = issue.getInvalidPaths();
+            final List<List<PathElement>> paths;
+            if (invalidPaths == null || invalidPaths.isEmpty()) {
+                paths = Collections.emptyList();
+            } else {
+                paths = new ArrayList<List<PathElement>>(invalidPaths.size());
+                for (final Path path : invalidPaths) {
+                    final List<PathElement> elements = new ArrayList<PathElement>(path.getElements().size());
+                    for (final BpmnElement element : path.getElements()) {
+                        PathElement pathElement = pathElements.get(element);
+                        if (pathElement == null) {
+                            pathElement = new PathElement(element);
+                            pathElements.put(element, pathElement);
+                        }
+                        elements.add(pathElement);
+                    }
+                    paths.add(Collections.unmodifiableList(elements));
+                }
+            }
+            snapshots.add(new IssueSnapshot(issue, Collections.unmodifiableList(paths)));
+        }
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public String getClassification() {
+        return classification;
+    }
+
+    public String getBpmnFile() {
+        return bpmnFile;
+    }
+
+    public String getResourceFile() {
+        return resourceFile;
+    }
+
+    public String getElementId() {
+        return elementId;
+    }
+
+    public String getElementName() {
+        return elementName;
+    }
+
+    public String getVariable() {
+        return variable;
+    }
+
+    /**
+     * get the description of the anomaly
+     *
+     * @return description or null, if the issue has no anomaly
+     */
+    public String getAnomaly() {
+        return anomaly;
+    }
+
+    /**
+     * get the invalid paths
+     *
+     * @return paths, empty if the issue has none
+     */
+    public List<List<PathElement>> getPaths() {
+        return paths;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Element of an invalid path
+     */
+    public static final class PathElement {
+
+        private final String id;
+
+        private final String name;
+
+        private PathElement(final BpmnElement element) {
+            this.id = element.getBaseElement().getId();
+            final String elementName = element.getBaseElement().getAttributeValue("name");
+            // filter newlines
+            this.name = elementName == null ? null : elementName.replace("\n", "");
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
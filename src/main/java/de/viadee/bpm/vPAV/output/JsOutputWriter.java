@@ -29,26 +29,25 @@
  */
 package de.viadee.bpm.vPAV.output;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
-import java.util.List;
-
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 
 import de.viadee.bpm.vPAV.AbstractRunner;
 import de.viadee.bpm.vPAV.ConstantsConfig;
-import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
-import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
-import de.viadee.bpm.vPAV.processing.model.graph.Path;
 
 /**
  * 
@@ -58,40 +57,65 @@ import de.viadee.bpm.vPAV.processing.model.graph.Path;
  */
 public class JsOutputWriter implements IssueOutputWriter {
 
-    public void write(final Collection<CheckerIssue> issues) throws OutputWriterException {
-        final String json = transformToJsonDatastructure(issues);
-        final String bpmn = transformToXMLDatastructure();
-        if (json != null && !json.isEmpty()) {
-            try {
-                final FileWriter file = new FileWriter(ConstantsConfig.VALIDATION_JS_MODEL_OUTPUT);
-                file.write(bpmn);
-                file.close();
-
-                final OutputStreamWriter osWriter = new OutputStreamWriter(
-                        new FileOutputStream(ConstantsConfig.VALIDATION_JS_OUTPUT), StandardCharsets.UTF_8);
-                osWriter.write(json);
-                osWriter.close();
+    public void write(final Collection<IssueSnapshot> issues) throws OutputWriterException {
+        try {
+            writeModelOutput();
 
-            } catch (final IOException ex) {
-                throw new OutputWriterException("js output couldn't be written");
+            try (final Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(ConstantsConfig.VALIDATION_JS_OUTPUT), StandardCharsets.UTF_8))) {
+                writer.write("var elementsToMark = ");
+                final JsonOutputWriter jsonOutputWriter = new JsonOutputWriter() {
+                    @Override
+                    String formatBpmnFile(final String bpmnFile) {
+                        return replace(File.separator, "\\", bpmnFile);
+                    }
+                };
+                jsonOutputWriter.writeJsonDatastructure(JsonOutputWriter.createJsonWriter(writer), issues);
+                writer.write(";");
             }
+
+        } catch (final IOException ex) {
+            throw new OutputWriterException("js output couldn't be written");
         }
     }
 
-    private String transformToXMLDatastructure() throws OutputWriterException {
-        String output = "var diagramXMLSource = [\n";
-
+    /**
+     * write the models into a temporary file, which replaces the output once all models are written, so that a
+     * missing model doesn't leave a broken output
+     *
+     * @throws IOException
+     * @throws OutputWriterException
+     */
+    private void writeModelOutput() throws IOException, OutputWriterException {
+        final Path output = Paths.get(ConstantsConfig.VALIDATION_JS_MODEL_OUTPUT);
+        final Path tempOutput = Files.createTempFile(output.toAbsolutePath().getParent(), "bpmn_model", ".tmp");
         try {
-            for (final String bpmnFilename : AbstractRunner.getModelPath()) {
-                String prettyBpmnFileName = replace(File.separator, "\\\\", bpmnFilename);
-                output += "{\"name\":\"" + prettyBpmnFileName + "\",\n \"xml\": \"";
-                output += convertBpmnFile(ConstantsConfig.BASEPATH + bpmnFilename);
-                output += "\"},\n";
+            try (final Writer writer = new BufferedWriter(new FileWriter(tempOutput.toFile()))) {
+                writeXMLDatastructure(writer);
             }
-        } catch (IOException e) {
-            throw new OutputWriterException("bpmnFile not found");
+            Files.move(tempOutput, output, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempOutput);
+        }
+    }
+
+    /**
+     * write the xml sources of all models, each model is streamed into the output
+     *
+     * @param writer
+     *            target
+     * @throws IOException
+     * @throws OutputWriterException
+     */
+    private void writeXMLDatastructure(final Writer writer) throws IOException, OutputWriterException {
+        writer.write("var diagramXMLSource = [\n");
+        for (final String bpmnFilename : AbstractRunner.getModelPath()) {
+            String prettyBpmnFileName = replace(File.separator, "\\\\", bpmnFilename);
+            writer.write("{\"name\":\"" + prettyBpmnFileName + "\",\n \"xml\": \"");
+            writeBpmnFile(ConstantsConfig.BASEPATH + bpmnFilename, writer);
+            writer.write("\"},\n");
         }
-        return output + "];\n";
+        writer.write("];\n");
     }
 
     private static String replace(String search, String replace, String str) {
@@ -104,55 +128,30 @@ public class JsOutputWriter implements IssueOutputWriter {
         return (str);
     }
 
-    private String convertBpmnFile(String path) throws IOException {
-        byte[] encoded = Files.readAllBytes(Paths.get(path));
-        String s = new String(encoded);
-        s = s.replace("\"", "\\\""); // replace " with \"
-        s = s.replace('\n', ' '); // delete all \n
-        s = s.replace('\r', ' '); // delete all \r
-        s = s.replaceAll(">\\u0020*<", "><");
-        s = s.replaceAll(">\\u0027*<", "><");
-        return s;
-    }
-
-    private static String transformToJsonDatastructure(final Collection<CheckerIssue> issues) {
-        final JsonArray jsonIssues = new JsonArray();
-        if (issues != null && issues.size() > 0) {
-            for (final CheckerIssue issue : issues) {
-                final JsonObject obj = new JsonObject();
-                obj.addProperty("id", issue.getId());
-                obj.addProperty("bpmnFile", replace(File.separator, "\\", issue.getBpmnFile()));
-                obj.addProperty("ruleName", issue.getRuleName());
-                obj.addProperty("elementId", issue.getElementId());
-                obj.addProperty("elementName", issue.getElementName());
-                obj.addProperty("classification", issue.getClassification().name());
-                obj.addProperty("resourceFile", issue.getResourceFile());
-                obj.addProperty("variable", issue.getVariable());
-                obj.addProperty("anomaly",
-                        issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription());
-                final JsonArray jsonPaths = new JsonArray();
-                final List<Path> paths = issue.getInvalidPaths();
-                if (paths != null && paths.size() > 0) {
-                    for (final Path path : paths) {
-                        final JsonArray jsonPath = new JsonArray();
-                        final List<BpmnElement> elements = path.getElements();
-                        for (BpmnElement element : elements) {
-                            final JsonObject jsonElement = new JsonObject();
-                            final String id = element.getBaseElement().getId();
-                            final String name = element.getBaseElement().getAttributeValue("name");
-                            jsonElement.addProperty("elementId", id);
-                            jsonElement.addProperty("elementName",
-                                    name == null ? null : name.replaceAll("\n", ""));
-                            jsonPath.add(jsonElement);
-                        }
-                        jsonPaths.add(jsonPath);
-                    }
-                }
-                obj.add("paths", jsonPaths);
-                obj.addProperty("message", issue.getMessage());
-                jsonIssues.add(obj);
+    /**
+     * stream a model into the output: " is escaped, line breaks are replaced with blanks and blanks or apostrophes
+     * between tags are removed
+     *
+     * @param path
+     *            path to model
+     * @param writer
+     *            target
+     * @throws IOException
+     * @throws OutputWriterException
+     */
+    private void writeBpmnFile(final String path, final Writer writer) throws IOException, OutputWriterException {
+        final Reader reader;
+        try {
+            reader = new InputStreamReader(Files.newInputStream(Paths.get(path)), Charset.defaultCharset());
+        } catch (final IOException e) {
+            throw new OutputWriterException("bpmnFile not found");
+        }
+        try (final Reader bpmn = reader; final Writer escaped = new XmlSourceEscapingWriter(writer)) {
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = bpmn.read(buffer)) != -1) {
+                escaped.write(buffer, 0, read);
             }
         }
-        return ("var elementsToMark = " + new GsonBuilder().setPrettyPrinting().create().toJson(jsonIssues) + ";");
     }
 }
@@ -29,77 +29,99 @@
  */
 package de.viadee.bpm.vPAV.output;
 
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import de.viadee.bpm.vPAV.ConstantsConfig;
-import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
-import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
-import de.viadee.bpm.vPAV.processing.model.graph.Path;
 
 public class JsonOutputWriter implements IssueOutputWriter {
 
-    public void write(final Collection<CheckerIssue> issues) throws OutputWriterException {
-        final String json = transformToJsonDatastructure(issues);
-        if (json != null && !json.isEmpty()) {
-            try {
-                final OutputStreamWriter osWriter = new OutputStreamWriter(
-                        new FileOutputStream(ConstantsConfig.VALIDATION_JSON_OUTPUT), StandardCharsets.UTF_8);
-                osWriter.write(json);
-                osWriter.close();
-            } catch (final IOException ex) {
-                throw new OutputWriterException("json output couldn't be written");
-            }
+    public void write(final Collection<IssueSnapshot> issues) throws OutputWriterException {
+        try (final Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(ConstantsConfig.VALIDATION_JSON_OUTPUT), StandardCharsets.UTF_8))) {
+            writeJsonDatastructure(createJsonWriter(writer), issues);
+        } catch (final IOException ex) {
+            throw new OutputWriterException("json output couldn't be written");
         }
     }
 
-    private static String transformToJsonDatastructure(final Collection<CheckerIssue> issues) {
-        final JsonArray jsonIssues = new JsonArray();
+    /**
+     * create a json writer with the settings of a pretty printing gson instance, so that the output equals
+     * Gson.toJson()
+     *
+     * @param writer
+     *            target
+     * @return json writer
+     * @throws IOException
+     */
+    static JsonWriter createJsonWriter(final Writer writer) throws IOException {
+        final JsonWriter jsonWriter = new GsonBuilder().setPrettyPrinting().create().newJsonWriter(writer);
+        jsonWriter.setLenient(true);
+        jsonWriter.setHtmlSafe(true);
+        return jsonWriter;
+    }
+
+    /**
+     * format the path of the bpmn file of an issue, the json output writes it unchanged
+     *
+     * @param bpmnFile
+     *            path of the bpmn file
+     * @return formatted path
+     */
+    String formatBpmnFile(final String bpmnFile) {
+        return bpmnFile;
+    }
+
+    /**
+     * write the issues one by one, without building a json tree in memory
+     *
+     * @param out
+     *            json writer
+     * @param issues
+     *            issues
+     * @throws IOException
+     */
+    void writeJsonDatastructure(final JsonWriter out, final Collection<IssueSnapshot> issues)
+            throws IOException {
+        out.beginArray();
         if (issues != null && issues.size() > 0) {
-            for (final CheckerIssue issue : issues) {
-                final JsonObject obj = new JsonObject();
-                obj.addProperty("id", issue.getId());
-                obj.addProperty("bpmnFile", issue.getBpmnFile());
-                obj.addProperty("ruleName", issue.getRuleName());
-                obj.addProperty("elementId", issue.getElementId());
-                obj.addProperty("elementName", issue.getElementName());
-                obj.addProperty("classification", issue.getClassification().name());
-                obj.addProperty("resourceFile", issue.getResourceFile());
-                obj.addProperty("variable", issue.getVariable());
-                obj.addProperty("anomaly",
-                        issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription());
-                final JsonArray jsonPaths = new JsonArray();
-                final List<Path> paths = issue.getInvalidPaths();
-                if (paths != null && paths.size() > 0) {
-                    for (final Path path : paths) {
-                        final JsonArray jsonPath = new JsonArray();
-                        final List<BpmnElement> elements = path.getElements();
-                        for (BpmnElement element : elements) {
-                            final JsonObject jsonElement = new JsonObject();
-                            final String id = element.getBaseElement().getId();
-                            final String name = element.getBaseElement().getAttributeValue("name");
-                            jsonElement.addProperty("elementId", id);
-                            jsonElement.addProperty("elementName",
-                                    name == null ? null : name.replaceAll("\n", ""));
-                            jsonPath.add(jsonElement);
-                        }
-                        jsonPaths.add(jsonPath);
+            for (final IssueSnapshot issue : issues) {
+                out.beginObject();
+                out.name("id").value(issue.getId());
+                out.name("bpmnFile").value(formatBpmnFile(issue.getBpmnFile()));
+                out.name("ruleName").value(issue.getRuleName());
+                out.name("elementId").value(issue.getElementId());
+                out.name("elementName").value(issue.getElementName());
+                out.name("classification").value(issue.getClassification());
+                out.name("resourceFile").value(issue.getResourceFile());
+                out.name("variable").value(issue.getVariable());
+                out.name("anomaly").value(issue.getAnomaly());
+                out.name("paths").beginArray();
+                for (final List<IssueSnapshot.PathElement> path : issue.getPaths()) {
+                    out.beginArray();
+                    for (final IssueSnapshot.PathElement element : path) {
+                        out.beginObject();
+                        out.name("elementId").value(element.getId());
+                        out.name("elementName").value(element.getName());
+                        out.endObject();
                     }
+                    out.endArray();
                 }
-                obj.add("paths", jsonPaths);
-                obj.addProperty("message", issue.getMessage());
-                jsonIssues.add(obj);
+                out.endArray();
+                out.name("message").value(issue.getMessage());
+                out.endObject();
             }
         }
-
-        return new GsonBuilder().setPrettyPrinting().create().toJson(jsonIssues);
+        out.endArray();
+        out.flush();
     }
 }
@@ -41,11 +41,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 
 import de.viadee.bpm.vPAV.ConstantsConfig;
+import de.viadee.bpm.vPAV.JaxbContexts;
 import de.viadee.bpm.vPAV.config.model.ElementConvention;
 import de.viadee.bpm.vPAV.config.model.ElementFieldTypes;
 import de.viadee.bpm.vPAV.config.model.ModelConvention;
@@ -74,8 +74,7 @@ public class RuleSetOutputWriter {
         try {
             writer = new BufferedWriter(
                     new OutputStreamWriter(new FileOutputStream(ConstantsConfig.EFFECTIVE_RULESET), "utf-8"));
-            final JAXBContext context = JAXBContext.newInstance(XmlRuleSet.class);
-            final Marshaller m = context.createMarshaller();
+            final Marshaller m = JaxbContexts.get(XmlRuleSet.class).createMarshaller();
             m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
             m.marshal(transformToXmlDatastructure(rules), writer);
         } catch (final UnsupportedEncodingException e) {
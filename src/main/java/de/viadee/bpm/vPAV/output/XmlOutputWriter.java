@@ -32,44 +32,49 @@ package de.viadee.bpm.vPAV.output;
 import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import de.viadee.bpm.vPAV.ConstantsConfig;
-import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
-import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
-import de.viadee.bpm.vPAV.processing.model.graph.Path;
 
 /**
  * Ergebnisse aus dem Checker in ein definiertes XML-Format schreiben
  * 
+ * The issues are streamed one after another in the schema of XmlCheckerIssues, so no second copy of the report is
+ * held in memory.
  */
 public class XmlOutputWriter implements IssueOutputWriter {
 
-    public void write(final Collection<CheckerIssue> issues) throws OutputWriterException {
+    private static final String ENCODING = "utf-8";
+
+    private static final String INDENT = "    ";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    public void write(final Collection<IssueSnapshot> issues) throws OutputWriterException {
 
         Writer writer = null;
         try {
             writer = new BufferedWriter(new OutputStreamWriter(
-                    new FileOutputStream(ConstantsConfig.VALIDATION_XML_OUTPUT), "utf-8"));
-            final JAXBContext context = JAXBContext.newInstance(XmlCheckerIssues.class);
-            final Marshaller m = context.createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(transformToXmlDatastructure(issues), writer);
+                    new FileOutputStream(ConstantsConfig.VALIDATION_XML_OUTPUT), ENCODING));
+            final XMLStreamWriter xmlWriter = OUTPUT_FACTORY.createXMLStreamWriter(writer);
+            writeXmlDatastructure(xmlWriter, issues);
+            xmlWriter.close();
+            writer.flush();
         } catch (final UnsupportedEncodingException e) {
             throw new OutputWriterException("unsupported encoding");
         } catch (final FileNotFoundException e) {
             throw new OutputWriterException("output file couldn't be generated");
-        } catch (final JAXBException e) {
-            throw new OutputWriterException("xml output couldn't be generated (jaxb-error)");
+        } catch (final XMLStreamException | IOException e) {
+            throw new OutputWriterException("xml output couldn't be generated");
         } finally {
             try {
                 writer.close();
@@ -78,35 +83,101 @@ public class XmlOutputWriter implements IssueOutputWriter {
         }
     }
 
-    private static XmlCheckerIssues transformToXmlDatastructure(
-            final Collection<CheckerIssue> issues) {
-        XmlCheckerIssues xmlIssues = new XmlCheckerIssues();
-        for (final CheckerIssue issue : issues) {
-            final List<XmlPath> xmlPaths = new ArrayList<XmlPath>();
-            final List<Path> invalidPaths = issue.getInvalidPaths();
-            if (invalidPaths != null) {
-                for (final Path path : invalidPaths) {
-                    List<BpmnElement> elements = path.getElements();
-                    List<XmlPathElement> pathElements = new ArrayList<XmlPathElement>();
-                    for (final BpmnElement element : elements) {
-                        String elementName = element.getBaseElement().getAttributeValue("name");
-                        if (elementName != null) {
-                            // filter newlines
-                            elementName = elementName.replace("\n", "");
-                        }
-                        pathElements.add(new XmlPathElement(element.getBaseElement().getId(), elementName));
-                    }
-                    xmlPaths.add(new XmlPath(pathElements));
-                }
+    /**
+     * write the issues as indented xml
+     *
+     * @param xmlWriter
+     *            target
+     * @param issues
+     *            issues
+     * @throws XMLStreamException
+     */
+    private static void writeXmlDatastructure(final XMLStreamWriter xmlWriter,
+            final Collection<IssueSnapshot> issues) throws XMLStreamException {
+        xmlWriter.writeStartDocument(ENCODING, "1.0");
+        newLine(xmlWriter, 0);
+        if (issues.isEmpty()) {
+            xmlWriter.writeEmptyElement("issues");
+        } else {
+            xmlWriter.writeStartElement("issues");
+            for (final IssueSnapshot issue : issues) {
+                writeIssue(xmlWriter, issue);
+            }
+            newLine(xmlWriter, 0);
+            xmlWriter.writeEndElement();
+        }
+        xmlWriter.writeCharacters("\n");
+        xmlWriter.writeEndDocument();
+    }
+
+    private static void writeIssue(final XMLStreamWriter xmlWriter, final IssueSnapshot issue)
+            throws XMLStreamException {
+        final String elementName = issue.getElementName();
+        newLine(xmlWriter, 1);
+        xmlWriter.writeStartElement("issue");
+        writeElement(xmlWriter, "id", issue.getId());
+        writeElement(xmlWriter, "ruleName", issue.getRuleName());
+        writeElement(xmlWriter, "bpmnFile", issue.getBpmnFile());
+        writeElement(xmlWriter, "resourceFile", issue.getResourceFile());
+        writeElement(xmlWriter, "classification", issue.getClassification());
+        writeElement(xmlWriter, "elementId", issue.getElementId());
+        writeElement(xmlWriter, "elementName", elementName == null ? null : elementName.replace("\n", ""));
+        writeElement(xmlWriter, "variable", issue.getVariable());
+        writeElement(xmlWriter, "anomaly", issue.getAnomaly());
+        if (!issue.getPaths().isEmpty()) {
+            newLine(xmlWriter, 2);
+            xmlWriter.writeStartElement("paths");
+            for (final List<IssueSnapshot.PathElement> path : issue.getPaths()) {
+                writePath(xmlWriter, path);
             }
-            final String elementName = issue.getElementName();
-            xmlIssues.addIssue(new XmlCheckerIssue(issue.getId(), issue.getRuleName(),
-                    issue.getClassification().name(), issue.getBpmnFile(), issue.getResourceFile(),
-                    issue.getElementId(), elementName == null ? null : elementName.replace("\n", ""),
-                    issue.getMessage(), issue.getVariable(),
-                    issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription(),
-                    xmlPaths.isEmpty() ? null : xmlPaths));
+            newLine(xmlWriter, 2);
+            xmlWriter.writeEndElement();
+        }
+        writeElement(xmlWriter, "message", issue.getMessage());
+        newLine(xmlWriter, 1);
+        xmlWriter.writeEndElement();
+    }
+
+    private static void writePath(final XMLStreamWriter xmlWriter, final List<IssueSnapshot.PathElement> path)
+            throws XMLStreamException {
+        newLine(xmlWriter, 3);
+        if (path.isEmpty()) {
+            xmlWriter.writeEmptyElement("path");
+            return;
+        }
+        xmlWriter.writeStartElement("path");
+        for (final IssueSnapshot.PathElement element : path) {
+            newLine(xmlWriter, 4);
+            xmlWriter.writeEmptyElement("element");
+            writeAttribute(xmlWriter, "id", element.getId());
+            writeAttribute(xmlWriter, "name", element.getName());
+        }
+        newLine(xmlWriter, 3);
+        xmlWriter.writeEndElement();
+    }
+
+    /* elements of an issue, null values are left out */
+    private static void writeElement(final XMLStreamWriter xmlWriter, final String name, final String value)
+            throws XMLStreamException {
+        if (value != null) {
+            newLine(xmlWriter, 2);
+            xmlWriter.writeStartElement(name);
+            xmlWriter.writeCharacters(value);
+            xmlWriter.writeEndElement();
+        }
+    }
+
+    private static void writeAttribute(final XMLStreamWriter xmlWriter, final String name, final String value)
+            throws XMLStreamException {
+        if (value != null) {
+            xmlWriter.writeAttribute(name, value);
+        }
+    }
+
+    private static void newLine(final XMLStreamWriter xmlWriter, final int depth) throws XMLStreamException {
+        xmlWriter.writeCharacters("\n");
+        for (int i = 0; i < depth; i++) {
+            xmlWriter.writeCharacters(INDENT);
         }
-        return xmlIssues;
     }
 }
@@ -0,0 +1,148 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the xml source of a bpmn model as content of a JavaScript string literal in one pass
+ *
+ * Double quotes are escaped, line breaks are replaced with blanks and blanks (and apostrophes) between two tags are
+ * removed. Only the length of the current run of blanks or apostrophes is held, so the memory doesn't depend on the
+ * size of the model.
+ *
+ * Closing the writer ends the model, but leaves the target writer open.
+ */
+final class XmlSourceEscapingWriter extends FilterWriter {
+
+    private static final int NONE = -1;
+
+    /* blanks after the last '>', NONE if the last character wasn't part of such a run */
+    private int pendingBlanks = NONE;
+
+    /* apostrophes after the last '>' of the blank collapsed output */
+    private int pendingApostrophes = NONE;
+
+    XmlSourceEscapingWriter(final Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        switch (c) {
+            case '"':
+                collapseBlanks('\\');
+                collapseBlanks('"');
+                break;
+            case '\n':
+            case '\r':
+                collapseBlanks(' ');
+                break;
+            default:
+                collapseBlanks((char) c);
+        }
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(str.charAt(i));
+        }
+    }
+
+    /**
+     * write the pending characters of the model, the target writer isn't closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (pendingBlanks > 0) {
+            for (int i = 0; i < pendingBlanks; i++) {
+                removeApostrophes(' ');
+            }
+        }
+        pendingBlanks = NONE;
+        if (pendingApostrophes > 0) {
+            for (int i = 0; i < pendingApostrophes; i++) {
+                out.write('\'');
+            }
+        }
+        pendingApostrophes = NONE;
+        out.flush();
+    }
+
+    /* removes blanks between '>' and '<' */
+    private void collapseBlanks(final char c) throws IOException {
+        if (pendingBlanks != NONE) {
+            if (c == ' ') {
+                pendingBlanks++;
+                return;
+            }
+            if (c != '<') {
+                for (int i = 0; i < pendingBlanks; i++) {
+                    removeApostrophes(' ');
+                }
+            }
+            pendingBlanks = NONE;
+        }
+        removeApostrophes(c);
+        if (c == '>') {
+            pendingBlanks = 0;
+        }
+    }
+
+    /* removes apostrophes between '>' and '<' */
+    private void removeApostrophes(final char c) throws IOException {
+        if (pendingApostrophes != NONE) {
+            if (c == '\'') {
+                pendingApostrophes++;
+                return;
+            }
+            if (c != '<') {
+                for (int i = 0; i < pendingApostrophes; i++) {
+                    out.write('\'');
+                }
+            }
+            pendingApostrophes = NONE;
+        }
+        out.write(c);
+        if (c == '>') {
+            pendingApostrophes = 0;
+        }
+    }
+}
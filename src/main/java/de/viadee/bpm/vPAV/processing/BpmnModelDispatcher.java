@@ -39,8 +39,9 @@ import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 
+import de.viadee.bpm.vPAV.ValidationBudget;
 import de.viadee.bpm.vPAV.config.model.Rule;
-import de.viadee.bpm.vPAV.processing.checker.CheckerFactory;
+import de.viadee.bpm.vPAV.processing.checker.CheckerDispatchTable;
 import de.viadee.bpm.vPAV.processing.checker.ElementChecker;
 import de.viadee.bpm.vPAV.processing.checker.ModelChecker;
 import de.viadee.bpm.vPAV.processing.checker.ProcessVariablesModelChecker;
@@ -60,12 +61,15 @@ public class BpmnModelDispatcher {
             final Map<String, String> decisionRefToPathMap, final Map<String, String> processIdToPathMap,
             final Map<String, Collection<String>> messageIdToVariables,
             final Map<String, Collection<String>> processIdToVariables,
-            final Collection<String> resourcesNewestVersions, final Map<String, Rule> conf)
+            final CheckerDispatchTable checkers, final Map<String, Rule> conf, final ValidationBudget budget)
             throws ConfigItemNotFoundException {
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(processdefinition);
 
+        // start expensive checks (e.g. groovy validation) in the background
+        checkers.prepare(modelInstance);
+
         // hold bpmn elements
         final Collection<BaseElement> baseElements = modelInstance
                 .getModelElementsByType(BaseElement.class);
@@ -78,10 +82,6 @@ public class BpmnModelDispatcher {
         final Collection<IGraph> graphCollection = graphBuilder.createProcessGraph(modelInstance,
                 processdefinition.getPath(), new ArrayList<String>());
 
-        // add data flow information to graph and calculate invalid paths
-        final Map<AnomalyContainer, List<Path>> invalidPathMap = graphBuilder
-                .createInvalidPaths(graphCollection);
-
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
         // call model checkers
@@ -91,30 +91,64 @@ public class BpmnModelDispatcher {
         if (processVariablesModelRule == null)
             throw new ConfigItemNotFoundException(
                     getClassName(ProcessVariablesModelChecker.class) + " not found");
-        if (processVariablesModelRule.isActive()) {
-            final ModelChecker processVarChecker = new ProcessVariablesModelChecker(
-                    processVariablesModelRule, invalidPathMap);
-            issues.addAll(processVarChecker.check(modelInstance));
+
+        // a limited run checks the elements first, so that the expensive invalid paths can be skipped, if the run is
+        // stopped; otherwise the issues of the model checker come first
+        final boolean limited = budget.isFailFast() || budget.hasTimeBudget();
+        if (!limited) {
+            checkModel(modelInstance, graphBuilder, graphCollection, processVariablesModelRule, budget, issues);
         }
 
         // execute element checkers
         for (final BaseElement baseElement : baseElements) {
+            if (budget.isExhausted()) {
+                return issues;
+            }
             BpmnElement element = graphBuilder.getElement(baseElement.getId());
             if (element == null) {
                 // if element is not in the data flow graph, create it.
                 element = new BpmnElement(processdefinition.getPath(), baseElement);
             }
-            final Collection<ElementChecker> checkerCollection = CheckerFactory
-                    .createCheckerInstancesBpmnElement(conf, resourcesNewestVersions, element,
-                            processdefinition.getPath());
-            for (final ElementChecker checker : checkerCollection) {
-                issues.addAll(checker.check(element));
+            // only the checkers for the type of the element are called
+            for (final ElementChecker checker : checkers.getCheckers(baseElement)) {
+                final Collection<CheckerIssue> elementIssues = checker.check(element);
+                budget.record(elementIssues);
+                issues.addAll(elementIssues);
             }
         }
 
+        if (limited && !budget.isExhausted()) {
+            checkModel(modelInstance, graphBuilder, graphCollection, processVariablesModelRule, budget, issues);
+        }
+
         return issues;
     }
 
+    /**
+     * add data flow information to graph, calculate invalid paths and call the process variables model checker
+     *
+     * @param modelInstance
+     * @param graphBuilder
+     * @param graphCollection
+     * @param processVariablesModelRule
+     * @param budget
+     * @param issues
+     *            found issues are added
+     */
+    private static void checkModel(final BpmnModelInstance modelInstance, final ElementGraphBuilder graphBuilder,
+            final Collection<IGraph> graphCollection, final Rule processVariablesModelRule,
+            final ValidationBudget budget, final Collection<CheckerIssue> issues) {
+        final Map<AnomalyContainer, List<Path>> invalidPathMap = graphBuilder
+                .createInvalidPaths(graphCollection);
+        if (processVariablesModelRule.isActive()) {
+            final ModelChecker processVarChecker = new ProcessVariablesModelChecker(
+                    processVariablesModelRule, invalidPathMap);
+            final Collection<CheckerIssue> modelIssues = processVarChecker.check(modelInstance);
+            budget.record(modelIssues);
+            issues.addAll(modelIssues);
+        }
+    }
+
     private static String getClassName(Class<?> clazz) {
         return clazz.getSimpleName();
     }
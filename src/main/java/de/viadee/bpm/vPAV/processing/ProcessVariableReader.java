@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -47,8 +48,6 @@ import javax.el.ELException;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.tools.ant.DirectoryScanner;
-import org.apache.tools.ant.types.Resource;
 import org.camunda.bpm.model.bpmn.Query;
 import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
@@ -154,12 +153,10 @@ public final class ProcessVariableReader {
             final BPMNScanner bScanner = new BPMNScanner();
             String htmlFileName = bScanner.getForm(element.getProcessdefinition(), baseElement.getId(),
                     baseElement.getElementType().getTypeName());
-            if (htmlFileName != null) {
-                final DirectoryScanner ds = new DirectoryScanner();
-                ds.setBasedir("src/main/webapp/forms/");
-                String path = ds.getResource(htmlFileName).toString();
-
-                HTMLScanner hScanner = new HTMLScanner(path);
+            final Path htmlFile = RuntimeConfig.getInstance().getResourceResolver()
+                    .resolveReference(ConstantsConfig.FORMSPATH, htmlFileName);
+            if (htmlFile != null) {
+                HTMLScanner hScanner = new HTMLScanner(htmlFile.toString());
                 ArrayList<String> writtenVariables = hScanner.getWriteVariables();
                 for (String name : writtenVariables)
                     processVariables.put(name,
@@ -676,31 +673,18 @@ public final class ProcessVariableReader {
         Map<String, ProcessVariable> variables = new HashMap<String, ProcessVariable>();
         if (fileName != null && fileName.trim().length() > 0) {
             try {
-                final DirectoryScanner scanner = new DirectoryScanner();
-
-                if (RuntimeConfig.getInstance().isTest()) {
-                    if (fileName.endsWith(".java"))
-                        scanner.setBasedir(ConstantsConfig.TEST_JAVAPATH);
-                    else
-                        scanner.setBasedir(ConstantsConfig.TEST_BASEPATH);
-                } else {
-                    if (fileName.endsWith(".java"))
-                        scanner.setBasedir(ConstantsConfig.JAVAPATH);
-                    else
-                        scanner.setBasedir(ConstantsConfig.BASEPATH);
-                }
+                // missing resources are reported once at the end of the run
+                final Path file = RuntimeConfig.getInstance().getResourceResolver()
+                        .resolveSourceReference(fileName);
 
-                Resource s = scanner.getResource(fileName);
+                if (file != null) {
 
-                if (s.isExists()) {
-
-                    InputStreamReader resource = new InputStreamReader(new FileInputStream(s.toString()));
-
-                    final String methodBody = IOUtils.toString(resource);
+                    final String methodBody;
+                    try (final InputStreamReader resource = new InputStreamReader(new FileInputStream(file.toFile()))) {
+                        methodBody = IOUtils.toString(resource);
+                    }
                     variables = searchProcessVariablesInCode(element, chapter, fieldType, fileName, scopeId,
                             methodBody);
-                } else {
-                    logger.warning("Class " + fileName + " does not exist");
                 }
             } catch (final IOException ex) {
                 throw new RuntimeException(
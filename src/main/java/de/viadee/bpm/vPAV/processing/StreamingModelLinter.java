@@ -0,0 +1,407 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import de.viadee.bpm.vPAV.config.model.ElementConvention;
+import de.viadee.bpm.vPAV.config.model.Rule;
+import de.viadee.bpm.vPAV.config.model.Setting;
+import de.viadee.bpm.vPAV.processing.checker.ElementIdConventionChecker;
+import de.viadee.bpm.vPAV.processing.checker.NoExpressionChecker;
+import de.viadee.bpm.vPAV.processing.checker.NoScriptChecker;
+import de.viadee.bpm.vPAV.processing.checker.TaskNamingConventionChecker;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions;
+
+/**
+ * Fast lint mode: evaluates the rules, which only look at ids, names and attributes of the elements, in one SAX pass
+ * per model. Neither a DOM nor a camunda model instance is built and no data flow graph is created.
+ *
+ * The issues are the same as the ones of the ElementIdConventionChecker, TaskNamingConventionChecker,
+ * NoScriptChecker and NoExpressionChecker.
+ *
+ */
+public class StreamingModelLinter {
+
+    private static final Set<String> TASKS = new HashSet<String>(Arrays.asList("task", "serviceTask", "sendTask",
+            "receiveTask", "userTask", "manualTask", "businessRuleTask", "scriptTask"));
+
+    /* sub processes aren't checked for scripts, their children are */
+    private static final Set<String> SUB_PROCESSES = new HashSet<String>(
+            Arrays.asList("process", "subProcess", "transaction", "adHocSubProcess"));
+
+    private static final Set<String> NO_EXPRESSION_ELEMENTS = new HashSet<String>(Arrays.asList("serviceTask",
+            "businessRuleTask", "sendTask", "scriptTask", "intermediateThrowEvent", "endEvent", "startEvent",
+            "sequenceFlow", "exclusiveGateway", "userTask", "manualTask"));
+
+    /* bpmn elements with an id, which aren't base elements */
+    private static final Set<String> NO_BASE_ELEMENTS = new HashSet<String>(
+            Arrays.asList("definitions", "documentation"));
+
+    private static final String[] IMPLEMENTATION_ATTRIBUTES = { ElementExtensions.CLASS,
+            ElementExtensions.DECISION_REF, ElementExtensions.DELEGATE_EXPRESSION, ElementExtensions.EXPRESSION,
+            ElementExtensions.TYPE };
+
+    private final Rule elementIdRule;
+
+    private final Map<String, List<ElementConvention>> idConventionsByElementType = new HashMap<String, List<ElementConvention>>();
+
+    private final Rule taskNamingRule;
+
+    private final Rule noScriptRule;
+
+    private final Rule noExpressionRule;
+
+    private final SAXParser parser;
+
+    /**
+     * @param rules
+     *            effective rule set
+     * @throws ConfigItemNotFoundException
+     *             if one of the lint rules isn't configured
+     */
+    public StreamingModelLinter(final Map<String, Rule> rules) throws ConfigItemNotFoundException {
+        this.elementIdRule = getActiveRule(rules, ElementIdConventionChecker.class);
+        this.taskNamingRule = getActiveRule(rules, TaskNamingConventionChecker.class);
+        this.noScriptRule = getActiveRule(rules, NoScriptChecker.class);
+        this.noExpressionRule = getActiveRule(rules, NoExpressionChecker.class);
+
+        if (elementIdRule != null && elementIdRule.getElementConventions() != null) {
+            for (final ElementConvention convention : elementIdRule.getElementConventions()) {
+                final String elementType = convention.getName().toLowerCase();
+                List<ElementConvention> conventions = idConventionsByElementType.get(elementType);
+                if (conventions == null) {
+                    conventions = new ArrayList<ElementConvention>();
+                    idConventionsByElementType.put(elementType, conventions);
+                }
+                conventions.add(convention);
+            }
+        }
+
+        try {
+            final SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            this.parser = factory.newSAXParser();
+        } catch (final ParserConfigurationException | SAXException ex) {
+            throw new RuntimeException("SAX parser couldn't be created", ex);
+        }
+    }
+
+    /**
+     * checks a model in one pass
+     *
+     * @param processdefinition
+     *            bpmn file
+     * @return issues of the lint rules
+     */
+    public Collection<CheckerIssue> lint(final File processdefinition) {
+        final LintHandler handler = new LintHandler(processdefinition.getPath());
+        try {
+            parser.parse(processdefinition, handler);
+        } catch (final SAXException | IOException ex) {
+            throw new RuntimeException("Model " + processdefinition.getPath() + " couldn't be read", ex);
+        } finally {
+            parser.reset();
+        }
+        return handler.issues;
+    }
+
+    private static Rule getActiveRule(final Map<String, Rule> rules, final Class<?> checkerClass)
+            throws ConfigItemNotFoundException {
+        final Rule rule = rules.get(checkerClass.getSimpleName());
+        if (rule == null)
+            throw new ConfigItemNotFoundException(checkerClass.getSimpleName() + " not found");
+        return rule.isActive() ? rule : null;
+    }
+
+    /**
+     * xml element on the stack of the parser
+     */
+    private static final class Frame {
+
+        private final boolean bpmn;
+
+        private final String localName;
+
+        private final String id;
+
+        private final String name;
+
+        private final String implementation;
+
+        private final List<String> scriptPlaces = new ArrayList<String>();
+
+        private boolean executionListenerExpression;
+
+        private boolean taskListenerExpression;
+
+        private boolean eventExpression;
+
+        private boolean scriptInConditionExpression;
+
+        private Frame(final String uri, final String localName, final Attributes attributes) {
+            this.bpmn = BpmnModelConstants.BPMN20_NS.equals(uri);
+            this.localName = localName;
+            this.id = emptyToNull(attributes.getValue("id"));
+            this.name = emptyToNull(attributes.getValue("name"));
+            this.implementation = readImplementation(attributes);
+        }
+
+        private boolean isBaseElement() {
+            return bpmn && id != null && !NO_BASE_ELEMENTS.contains(localName);
+        }
+
+        /* simple name of the camunda model type, e.g. "UserTask" */
+        private String getTypeName() {
+            return Character.toUpperCase(localName.charAt(0)) + localName.substring(1);
+        }
+
+        /* name or id, like CheckName.checkName */
+        private String getIdentifier() {
+            return name != null ? name : id;
+        }
+
+        private static String readImplementation(final Attributes attributes) {
+            String implementation = ElementExtensions.NO_IMPLEMENTATION;
+            for (final String attribute : IMPLEMENTATION_ATTRIBUTES) {
+                if (attributes.getIndex(BpmnModelConstants.CAMUNDA_NS, attribute) >= 0) {
+                    implementation = attribute;
+                }
+            }
+            return implementation;
+        }
+
+        private static String emptyToNull(final String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    private final class LintHandler extends DefaultHandler {
+
+        private final String path;
+
+        private final Deque<Frame> stack = new ArrayDeque<Frame>();
+
+        private final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
+
+        private LintHandler(final String path) {
+            this.path = path;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes attributes) {
+            final Frame frame = new Frame(uri, localName, attributes);
+            final Frame parent = stack.peek();
+
+            if (BpmnModelConstants.CAMUNDA_NS.equals(uri)) {
+                if (localName.equals("script") && parent != null) {
+                    addScriptPlace(parent.localName);
+                } else if (parent != null && parent.bpmn && parent.localName.equals("extensionElements")
+                        && attributes.getIndex("", ElementExtensions.EXPRESSION) >= 0) {
+                    final Frame owner = getOwner();
+                    if (owner != null && localName.equals("executionListener")) {
+                        owner.executionListenerExpression = true;
+                    } else if (owner != null && localName.equals("taskListener")) {
+                        owner.taskListenerExpression = true;
+                    }
+                }
+            } else if (frame.bpmn && parent != null && parent.bpmn) {
+                if (localName.equals("messageEventDefinition")
+                        && attributes.getIndex(BpmnModelConstants.CAMUNDA_NS, ElementExtensions.EXPRESSION) >= 0) {
+                    parent.eventExpression = true;
+                } else if (localName.equals("conditionExpression")) {
+                    final String language = attributes.getValue("language");
+                    if (language != null && language.trim().length() > 0) {
+                        parent.scriptInConditionExpression = true;
+                    }
+                }
+            }
+            stack.push(frame);
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            final Frame frame = stack.pop();
+            if (frame.isBaseElement()) {
+                checkNoScript(frame);
+                checkTaskNaming(frame);
+                checkElementId(frame);
+                checkNoExpression(frame);
+            }
+        }
+
+        /* element, which owns the extension elements on top of the stack */
+        private Frame getOwner() {
+            final Iterator<Frame> frames = stack.iterator();
+            frames.next();
+            return frames.hasNext() ? frames.next() : null;
+        }
+
+        /* a script belongs to each element with an id between the script and its process */
+        private void addScriptPlace(final String place) {
+            for (final Frame frame : stack) {
+                if (frame.bpmn && frame.localName.equals("process")) {
+                    break;
+                }
+                if (frame.id != null) {
+                    frame.scriptPlaces.add(place);
+                }
+            }
+        }
+
+        private void checkNoScript(final Frame frame) {
+            if (noScriptRule == null || SUB_PROCESSES.contains(frame.localName)) {
+                return;
+            }
+            final Map<String, Setting> settings = noScriptRule.getSettings();
+            final String typeName = frame.getTypeName();
+
+            if (!frame.scriptPlaces.isEmpty()) {
+                final Setting setting = settings.get(typeName);
+                if (!settings.containsKey(typeName)) {
+                    for (final String place : frame.scriptPlaces)
+                        addIssue(noScriptRule, CriticalityEnum.ERROR, frame,
+                                "task '" + frame.getIdentifier() + "' with '" + place + "' script");
+                } else if (!setting.getScriptPlaces().isEmpty()) {
+                    for (final String place : frame.scriptPlaces)
+                        if (!setting.getScriptPlaces().contains(place))
+                            addIssue(noScriptRule, CriticalityEnum.ERROR, frame,
+                                    "task '" + frame.getIdentifier() + "' with '" + place + "' script");
+                }
+            }
+
+            if (frame.localName.equals("scriptTask") && !settings.containsKey("ScriptTask")) {
+                addIssue(noScriptRule, CriticalityEnum.ERROR, frame,
+                        "ScriptTask '" + frame.getIdentifier() + "' not allowed");
+            }
+
+            if (frame.localName.equals("sequenceFlow") && frame.scriptInConditionExpression) {
+                final Setting setting = settings.get("SequenceFlow");
+                if (setting == null || (!setting.getScriptPlaces().isEmpty()
+                        && !setting.getScriptPlaces().contains("conditionExpression"))) {
+                    addIssue(noScriptRule, CriticalityEnum.ERROR, frame, "SequenceFlow '" + frame.getIdentifier()
+                            + "' with script in condition Expression");
+                }
+            }
+        }
+
+        private void checkTaskNaming(final Frame frame) {
+            if (taskNamingRule == null || !TASKS.contains(frame.localName)) {
+                return;
+            }
+            final Collection<ElementConvention> elementConventions = taskNamingRule.getElementConventions();
+            if (elementConventions == null || elementConventions.size() != 1) {
+                throw new ProcessingException("task naming convention checker must have one element convention!");
+            }
+            final Pattern pattern = elementConventions.iterator().next().getCompiledPattern();
+            if (frame.name != null && frame.name.trim().length() > 0) {
+                if (!pattern.matcher(frame.name).matches()) {
+                    addIssue(taskNamingRule, CriticalityEnum.WARNING, frame,
+                            "task name '" + frame.name + "' is against the naming convention");
+                }
+            } else {
+                addIssue(taskNamingRule, CriticalityEnum.ERROR, frame, "task name must be specified");
+            }
+        }
+
+        private void checkElementId(final Frame frame) {
+            if (elementIdRule == null) {
+                return;
+            }
+            final List<ElementConvention> conventions = idConventionsByElementType
+                    .get(frame.localName.toLowerCase());
+            for (final ElementConvention convention : conventions != null ? conventions
+                    : Collections.<ElementConvention> emptyList()) {
+                if (!convention.getCompiledPattern().matcher(frame.id).matches()) {
+                    addIssue(elementIdRule, CriticalityEnum.WARNING, frame,
+                            "ID '" + frame.id + "' is against the naming convention");
+                }
+            }
+        }
+
+        private void checkNoExpression(final Frame frame) {
+            if (noExpressionRule == null || !NO_EXPRESSION_ELEMENTS.contains(frame.localName)
+                    || noExpressionRule.getSettings().containsKey(frame.getTypeName())) {
+                return;
+            }
+            final String localName = frame.localName;
+            if ((localName.equals("serviceTask") || localName.equals("businessRuleTask")
+                    || localName.equals("sendTask")) && frame.implementation.equals(ElementExtensions.EXPRESSION)) {
+                addIssue(noExpressionRule, CriticalityEnum.WARNING, frame,
+                        "Usage of expressions in '" + frame.getIdentifier() + "' is against best practices.");
+            }
+            if ((localName.equals("intermediateThrowEvent") || localName.equals("endEvent"))
+                    && frame.eventExpression) {
+                addIssue(noExpressionRule, CriticalityEnum.WARNING, frame,
+                        "Usage of expression in event '" + frame.getIdentifier() + "' is against best practices.");
+            }
+            if (frame.executionListenerExpression) {
+                addIssue(noExpressionRule, CriticalityEnum.WARNING, frame, "Usage of expression in listeners for '"
+                        + frame.getIdentifier() + "' is against best practices.");
+            }
+            if (localName.equals("userTask") && frame.taskListenerExpression) {
+                addIssue(noExpressionRule, CriticalityEnum.WARNING, frame, "Usage of expression in listeners for '"
+                        + frame.getIdentifier() + "' is against best practices.");
+            }
+        }
+
+        private void addIssue(final Rule rule, final CriticalityEnum classification, final Frame frame,
+                final String message) {
+            issues.add(new CheckerIssue(rule.getName(), classification, path, null, frame.id, frame.name, null,
+                    null, null, message));
+        }
+    }
+}
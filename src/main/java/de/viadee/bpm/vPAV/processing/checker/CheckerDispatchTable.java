@@ -0,0 +1,173 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+
+/**
+ * Routes bpmn elements to the element checkers, which apply to their type
+ *
+ * The table is created once per run and its checkers are shared by all elements of all models. So checkers must not
+ * keep state of a single element or model.
+ *
+ */
+public class CheckerDispatchTable {
+
+    private final List<Entry> entries = new ArrayList<Entry>();
+
+    private final ConcurrentMap<Class<?>, List<ElementChecker>> checkersByType = new ConcurrentHashMap<Class<?>, List<ElementChecker>>();
+
+    CheckerDispatchTable() {
+    }
+
+    /**
+     * add a checker for all elements
+     *
+     * @param checker
+     */
+    void add(final ElementChecker checker) {
+        entries.add(new Entry(checker, null, Collections.<Class<?>> emptyList()));
+    }
+
+    /**
+     * add a checker for elements of the given types
+     *
+     * @param checker
+     * @param types
+     *            element types (including sub types) to be checked
+     */
+    void addFor(final ElementChecker checker, final Class<?>... types) {
+        entries.add(new Entry(checker, Arrays.asList(types), Collections.<Class<?>> emptyList()));
+    }
+
+    /**
+     * add a checker for all elements except the given types
+     *
+     * @param checker
+     * @param types
+     *            element types (including sub types) to be skipped
+     */
+    void addExcept(final ElementChecker checker, final Class<?>... types) {
+        entries.add(new Entry(checker, null, Arrays.asList(types)));
+    }
+
+    /**
+     * let the checkers prepare the check of a model
+     *
+     * @param modelInstance
+     *            bpmn model
+     */
+    public void prepare(final BpmnModelInstance modelInstance) {
+        for (final Entry entry : entries) {
+            if (entry.checker instanceof PreparingElementChecker) {
+                ((PreparingElementChecker) entry.checker).prepare(modelInstance);
+            }
+        }
+    }
+
+    /**
+     * cancel the background work of the checkers, if the run is stopped early
+     */
+    public void cancel() {
+        for (final Entry entry : entries) {
+            if (entry.checker instanceof PreparingElementChecker) {
+                ((PreparingElementChecker) entry.checker).cancel();
+            }
+        }
+    }
+
+    /**
+     * get the checkers for an element
+     *
+     * @param baseElement
+     *            bpmn element
+     * @return checkers in order of registration
+     */
+    public List<ElementChecker> getCheckers(final BaseElement baseElement) {
+        final Class<?> type = baseElement.getElementType().getInstanceType();
+        List<ElementChecker> checkers = checkersByType.get(type);
+        if (checkers == null) {
+            checkers = Collections.unmodifiableList(resolveCheckers(type));
+            checkersByType.putIfAbsent(type, checkers);
+        }
+        return checkers;
+    }
+
+    private List<ElementChecker> resolveCheckers(final Class<?> type) {
+        final List<ElementChecker> checkers = new ArrayList<ElementChecker>();
+        for (final Entry entry : entries) {
+            if (entry.appliesTo(type)) {
+                checkers.add(entry.checker);
+            }
+        }
+        return checkers;
+    }
+
+    private static final class Entry {
+
+        private final ElementChecker checker;
+
+        private final Collection<Class<?>> includedTypes;
+
+        private final Collection<Class<?>> excludedTypes;
+
+        private Entry(final ElementChecker checker, final Collection<Class<?>> includedTypes,
+                final Collection<Class<?>> excludedTypes) {
+            this.checker = checker;
+            this.includedTypes = includedTypes;
+            this.excludedTypes = excludedTypes;
+        }
+
+        private boolean appliesTo(final Class<?> type) {
+            if (includedTypes != null && !isAssignable(includedTypes, type)) {
+                return false;
+            }
+            return !isAssignable(excludedTypes, type);
+        }
+
+        private static boolean isAssignable(final Collection<Class<?>> types, final Class<?> type) {
+            for (final Class<?> candidate : types) {
+                if (candidate.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -29,19 +29,28 @@
  */
 package de.viadee.bpm.vPAV.processing.checker;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
-import org.camunda.bpm.model.bpmn.instance.BaseElement;
+import org.camunda.bpm.model.bpmn.instance.BoundaryEvent;
 import org.camunda.bpm.model.bpmn.instance.BusinessRuleTask;
+import org.camunda.bpm.model.bpmn.instance.EndEvent;
+import org.camunda.bpm.model.bpmn.instance.ExclusiveGateway;
+import org.camunda.bpm.model.bpmn.instance.IntermediateCatchEvent;
+import org.camunda.bpm.model.bpmn.instance.IntermediateThrowEvent;
+import org.camunda.bpm.model.bpmn.instance.ManualTask;
 import org.camunda.bpm.model.bpmn.instance.Process;
+import org.camunda.bpm.model.bpmn.instance.ScriptTask;
+import org.camunda.bpm.model.bpmn.instance.SendTask;
+import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
+import org.camunda.bpm.model.bpmn.instance.ServiceTask;
+import org.camunda.bpm.model.bpmn.instance.StartEvent;
 import org.camunda.bpm.model.bpmn.instance.SubProcess;
 import org.camunda.bpm.model.bpmn.instance.Task;
+import org.camunda.bpm.model.bpmn.instance.UserTask;
 
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.ConfigItemNotFoundException;
-import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 
 /**
  * Factory decides which Checkers will be used in defined situations
@@ -52,124 +61,93 @@ public final class CheckerFactory {
     public static String implementation;
 
     /**
-     * create checkers
+     * create the checkers for the active rules and the element types they apply to
      *
      * @param ruleConf
      *            rules for checker
      * @param resourcesNewestVersions
      *            resourcesNewestVersions in context
-     * @param element
-     *            given BpmnElement
-     * @param path
-     *            path to model file
-     * @return checkers returns checkers
+     * @return dispatch table with the checkers
      *
      * @throws ConfigItemNotFoundException
      *             exception when ConfigItem (e.g. rule) not found
      */
-    public static Collection<ElementChecker> createCheckerInstancesBpmnElement(
-            final Map<String, Rule> ruleConf, final Collection<String> resourcesNewestVersions,
-            final BpmnElement element, String path)
-            throws ConfigItemNotFoundException {
+    public static CheckerDispatchTable createCheckerDispatchTable(final Map<String, Rule> ruleConf,
+            final Collection<String> resourcesNewestVersions) throws ConfigItemNotFoundException {
 
-        final Collection<ElementChecker> checkers = new ArrayList<ElementChecker>();
-        final BaseElement baseElement = element.getBaseElement();
-        if (baseElement == null) {
-            throw new RuntimeException("Bpmn Element couldn't be found");
-        }
+        final CheckerDispatchTable checkers = new CheckerDispatchTable();
 
-        final Rule javaDelegateRule = ruleConf.get(getClassName(JavaDelegateChecker.class));
-        if (javaDelegateRule == null)
-            throw new ConfigItemNotFoundException(getClassName(JavaDelegateChecker.class) + " not found");
-        if (javaDelegateRule.isActive() && !(baseElement instanceof Process) && !(baseElement instanceof SubProcess)) {
-            checkers.add(new JavaDelegateChecker(javaDelegateRule, path));
+        final Rule javaDelegateRule = getRule(ruleConf, JavaDelegateChecker.class);
+        if (javaDelegateRule.isActive()) {
+            checkers.addExcept(new JavaDelegateChecker(javaDelegateRule), Process.class, SubProcess.class);
         }
 
-        final Rule dmnTaskRule = ruleConf.get(getClassName(DmnTaskChecker.class));
-        if (dmnTaskRule == null)
-            throw new ConfigItemNotFoundException(getClassName(DmnTaskChecker.class) + " not found");
-        if (dmnTaskRule.isActive() && baseElement instanceof BusinessRuleTask) {
-            checkers.add(new DmnTaskChecker(dmnTaskRule, path));
+        final Rule dmnTaskRule = getRule(ruleConf, DmnTaskChecker.class);
+        if (dmnTaskRule.isActive()) {
+            checkers.addFor(new DmnTaskChecker(dmnTaskRule), BusinessRuleTask.class);
         }
 
-        final Rule xorNamingConventionRule = ruleConf.get(getClassName(XorNamingConventionChecker.class));
-        if (xorNamingConventionRule == null)
-            throw new ConfigItemNotFoundException(getClassName(XorNamingConventionChecker.class) + " not found");
+        final Rule xorNamingConventionRule = getRule(ruleConf, XorNamingConventionChecker.class);
         if (xorNamingConventionRule.isActive()) {
-            checkers.add(new XorNamingConventionChecker(xorNamingConventionRule, path));
+            checkers.addFor(new XorNamingConventionChecker(xorNamingConventionRule), ExclusiveGateway.class);
         }
 
-        final Rule noScriptCheckerRule = ruleConf.get(getClassName(NoScriptChecker.class));
-        if (noScriptCheckerRule == null)
-            throw new ConfigItemNotFoundException(getClassName(NoScriptChecker.class) + " not found");
+        final Rule noScriptCheckerRule = getRule(ruleConf, NoScriptChecker.class);
         if (noScriptCheckerRule.isActive()) {
-            checkers.add(new NoScriptChecker(noScriptCheckerRule, path));
+            checkers.addExcept(new NoScriptChecker(noScriptCheckerRule), Process.class, SubProcess.class);
         }
 
-        final Rule processVariablesNameConventionRule = ruleConf
-                .get(getClassName(ProcessVariablesNameConventionChecker.class));
-        if (processVariablesNameConventionRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(ProcessVariablesNameConventionChecker.class) + " not found");
+        final Rule processVariablesNameConventionRule = getRule(ruleConf,
+                ProcessVariablesNameConventionChecker.class);
         if (processVariablesNameConventionRule.isActive()) {
             checkers.add(new ProcessVariablesNameConventionChecker(processVariablesNameConventionRule));
         }
 
-        final Rule taskNamingConventionRule = ruleConf
-                .get(getClassName(TaskNamingConventionChecker.class));
-        if (taskNamingConventionRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(TaskNamingConventionChecker.class) + " not found");
-        if (baseElement instanceof Task && taskNamingConventionRule.isActive()) {
-            checkers.add(new TaskNamingConventionChecker(taskNamingConventionRule));
+        final Rule taskNamingConventionRule = getRule(ruleConf, TaskNamingConventionChecker.class);
+        if (taskNamingConventionRule.isActive()) {
+            checkers.addFor(new TaskNamingConventionChecker(taskNamingConventionRule), Task.class);
         }
 
-        final Rule versioningRule = ruleConf.get(getClassName(VersioningChecker.class));
-        if (versioningRule == null)
-            throw new ConfigItemNotFoundException(getClassName(VersioningChecker.class) + " not found");
+        final Rule versioningRule = getRule(ruleConf, VersioningChecker.class);
         if (versioningRule.isActive()) {
             checkers.add(new VersioningChecker(versioningRule, resourcesNewestVersions));
         }
 
-        final Rule embeddedGroovyScriptRule = ruleConf
-                .get(getClassName(EmbeddedGroovyScriptChecker.class));
-        if (embeddedGroovyScriptRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(EmbeddedGroovyScriptChecker.class) + " not found");
+        final Rule embeddedGroovyScriptRule = getRule(ruleConf, EmbeddedGroovyScriptChecker.class);
         if (embeddedGroovyScriptRule.isActive()) {
             checkers.add(new EmbeddedGroovyScriptChecker(embeddedGroovyScriptRule));
         }
 
-        final Rule timerExpressionRule = ruleConf
-                .get(getClassName(TimerExpressionChecker.class));
-        if (timerExpressionRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(TimerExpressionChecker.class) + " not found");
+        final Rule timerExpressionRule = getRule(ruleConf, TimerExpressionChecker.class);
         if (timerExpressionRule.isActive()) {
-            checkers.add(new TimerExpressionChecker(timerExpressionRule, path));
+            checkers.addFor(new TimerExpressionChecker(timerExpressionRule), IntermediateCatchEvent.class,
+                    StartEvent.class, BoundaryEvent.class);
         }
 
-        final Rule elementIdConventionRule = ruleConf
-                .get(getClassName(ElementIdConventionChecker.class));
-        if (elementIdConventionRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(ElementIdConventionChecker.class) + " not found");
+        final Rule elementIdConventionRule = getRule(ruleConf, ElementIdConventionChecker.class);
         if (elementIdConventionRule.isActive()) {
             checkers.add(new ElementIdConventionChecker(elementIdConventionRule));
         }
 
-        final Rule noExpressionCheckerRule = ruleConf
-                .get(getClassName(NoExpressionChecker.class));
-        if (noExpressionCheckerRule == null)
-            throw new ConfigItemNotFoundException(
-                    getClassName(NoExpressionChecker.class) + " not found");
+        final Rule noExpressionCheckerRule = getRule(ruleConf, NoExpressionChecker.class);
         if (noExpressionCheckerRule.isActive()) {
-            checkers.add(new NoExpressionChecker(noExpressionCheckerRule, path));
+            checkers.addFor(new NoExpressionChecker(noExpressionCheckerRule), ServiceTask.class,
+                    BusinessRuleTask.class, SendTask.class, ScriptTask.class, IntermediateThrowEvent.class,
+                    EndEvent.class, StartEvent.class, SequenceFlow.class, ExclusiveGateway.class, UserTask.class,
+                    ManualTask.class);
         }
 
         return checkers;
     }
 
+    private static Rule getRule(final Map<String, Rule> ruleConf, final Class<?> checkerClass)
+            throws ConfigItemNotFoundException {
+        final Rule rule = ruleConf.get(getClassName(checkerClass));
+        if (rule == null)
+            throw new ConfigItemNotFoundException(getClassName(checkerClass) + " not found");
+        return rule;
+    }
+
     private static String getClassName(Class<?> clazz) {
         return clazz.getSimpleName();
     }
@@ -29,24 +29,20 @@
  */
 package de.viadee.bpm.vPAV.processing.checker;
 
-import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 
-import javax.xml.parsers.ParserConfigurationException;
-
 import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
-import org.xml.sax.SAXException;
 
-import de.viadee.bpm.vPAV.BPMNScanner;
 import de.viadee.bpm.vPAV.RuntimeConfig;
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.CheckName;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions;
 
 /**
  * Checks, whether a business rule task with dmn implementation is valid
@@ -54,43 +50,34 @@ import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
  */
 public class DmnTaskChecker extends AbstractElementChecker {
 
-    final private String path;
-
-    public DmnTaskChecker(final Rule rule, String path) {
+    public DmnTaskChecker(final Rule rule) {
         super(rule);
-        this.path = path;
     }
 
     @Override
     public Collection<CheckerIssue> check(final BpmnElement element) {
+        final String path = element.getProcessdefinition();
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement bpmnElement = element.getBaseElement();
-        final BPMNScanner scan;
-        try {
-            scan = new BPMNScanner();
 
-            // read attributes from task
-            final String implementationAttr = scan.getImplementation(path, bpmnElement.getId());
+        // read attributes from task
+        final String implementationAttr = element.getExtensions().getImplementation();
 
-            final String dmnAttr = bpmnElement.getAttributeValueNs(BpmnModelConstants.CAMUNDA_NS,
-                    "decisionRef");
-            if (implementationAttr != null) {
-                // check if DMN reference is not empty
-                if (implementationAttr.equals("camunda:decisionRef")) {
-                    if (dmnAttr == null || dmnAttr.trim().length() == 0) {
-                        // Error, because no delegateExpression has been configured
-                        issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
-                                element.getProcessdefinition(), null, bpmnElement.getAttributeValue("id"),
-                                bpmnElement.getAttributeValue("name"), null, null, null,
-                                "task " + CheckName.checkName(bpmnElement) + " with no dmn reference"));
-                    } else {
-                        issues.addAll(checkDMNFile(element, dmnAttr, path));
-                    }
+        final String dmnAttr = bpmnElement.getAttributeValueNs(BpmnModelConstants.CAMUNDA_NS,
+                ElementExtensions.DECISION_REF);
+        if (implementationAttr != null) {
+            // check if DMN reference is not empty
+            if (implementationAttr.equals(ElementExtensions.DECISION_REF)) {
+                if (dmnAttr == null || dmnAttr.trim().length() == 0) {
+                    // Error, because no delegateExpression has been configured
+                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
+                            element.getProcessdefinition(), null, bpmnElement.getAttributeValue("id"),
+                            bpmnElement.getAttributeValue("name"), null, null, null,
+                            "task " + CheckName.checkName(bpmnElement) + " with no dmn reference"));
+                } else {
+                    issues.addAll(checkDMNFile(element, dmnAttr, path));
                 }
             }
-        } catch (ParserConfigurationException | SAXException | IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
         }
         return issues;
     }
@@ -31,8 +31,10 @@ package de.viadee.bpm.vPAV.processing.checker;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 
@@ -44,8 +46,11 @@ import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
 
 public class ElementIdConventionChecker extends AbstractElementChecker {
 
+    private final Map<String, List<ElementConvention>> conventionsByElementType;
+
     public ElementIdConventionChecker(final Rule rule) {
         super(rule);
+        this.conventionsByElementType = groupConventionsByElementType(rule.getElementConventions());
     }
 
     @Override
@@ -53,18 +58,14 @@ public class ElementIdConventionChecker extends AbstractElementChecker {
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement baseElement = element.getBaseElement();
 
-        final Collection<ElementConvention> elementConventions = rule.getElementConventions();
+        final List<ElementConvention> elementConventions = conventionsByElementType
+                .get(baseElement.getElementType().getInstanceType().getSimpleName().toLowerCase());
 
         final String elementId = baseElement.getAttributeValue("id");
 
-        if (elementConventions != null && !elementConventions.isEmpty() && elementId != null) {
+        if (elementConventions != null && elementId != null) {
             for (final ElementConvention convention : elementConventions) {
-                final Pattern pattern = Pattern.compile(convention.getPattern());
-                Matcher matcher = pattern.matcher(elementId);
-                String bpmnInstance = convention.getName();
-                if (!matcher.matches()
-                        && baseElement.getElementType().getInstanceType().getSimpleName().toLowerCase()
-                                .equals(bpmnInstance.toLowerCase())) {
+                if (!convention.getCompiledPattern().matcher(elementId).matches()) {
                     issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
                             element.getProcessdefinition(), null, baseElement.getId(),
                             baseElement.getAttributeValue("name"), null, null, null,
@@ -74,4 +75,28 @@ public class ElementIdConventionChecker extends AbstractElementChecker {
         }
         return issues;
     }
+
+    /**
+     * group the conventions by the element type they apply to, so that an element is only matched against its own
+     * conventions
+     *
+     * @param elementConventions
+     * @return conventions by lower case element type
+     */
+    private static Map<String, List<ElementConvention>> groupConventionsByElementType(
+            final Collection<ElementConvention> elementConventions) {
+        final Map<String, List<ElementConvention>> conventionsByElementType = new HashMap<String, List<ElementConvention>>();
+        if (elementConventions != null) {
+            for (final ElementConvention convention : elementConventions) {
+                final String elementType = convention.getName().toLowerCase();
+                List<ElementConvention> conventions = conventionsByElementType.get(elementType);
+                if (conventions == null) {
+                    conventions = new ArrayList<ElementConvention>();
+                    conventionsByElementType.put(elementType, conventions);
+                }
+                conventions.add(convention);
+            }
+        }
+        return Collections.unmodifiableMap(conventionsByElementType);
+    }
 }
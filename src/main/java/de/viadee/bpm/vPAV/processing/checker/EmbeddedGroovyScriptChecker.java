@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 import org.camunda.bpm.model.bpmn.instance.ExtensionElements;
 import org.camunda.bpm.model.bpmn.instance.Script;
@@ -40,13 +41,11 @@ import org.camunda.bpm.model.bpmn.instance.ScriptTask;
 import org.camunda.bpm.model.bpmn.instance.camunda.CamundaExecutionListener;
 import org.camunda.bpm.model.bpmn.instance.camunda.CamundaScript;
 import org.camunda.bpm.model.bpmn.instance.camunda.CamundaTaskListener;
-import org.codehaus.groovy.control.CompilationFailedException;
 
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
-import groovy.lang.GroovyShell;
 
 /**
  * Class EmbeddedGroovyScriptChecker
@@ -54,12 +53,28 @@ import groovy.lang.GroovyShell;
  * Checks a bpmn model, if embedded groovy script references have been set correctly.
  *
  */
-public class EmbeddedGroovyScriptChecker extends AbstractElementChecker {
+public class EmbeddedGroovyScriptChecker extends AbstractElementChecker implements PreparingElementChecker {
+
+    private final GroovyScriptValidator validator = new GroovyScriptValidator();
 
     public EmbeddedGroovyScriptChecker(final Rule rule) {
         super(rule);
     }
 
+    /**
+     * start the validation of all groovy scripts of the model in the background, so that it runs in parallel with the
+     * graph building and the other checkers
+     */
+    @Override
+    public void prepare(final BpmnModelInstance modelInstance) {
+        validator.submitAll(modelInstance);
+    }
+
+    @Override
+    public void cancel() {
+        validator.cancel();
+    }
+
     @Override
     public Collection<CheckerIssue> check(final BpmnElement element) {
 
@@ -199,13 +214,11 @@ public class EmbeddedGroovyScriptChecker extends AbstractElementChecker {
      */
     private CheckerIssue parseGroovyCode(final String bpmnFile, final BaseElement baseElement,
             final String scriptText) {
-        final GroovyShell shell = new GroovyShell();
-        try {
-            shell.evaluate(scriptText);
-        } catch (final CompilationFailedException ex) {
+        final String errorMessage = validator.validate(scriptText);
+        if (errorMessage != null) {
             return new CheckerIssue(rule.getName(), CriticalityEnum.ERROR, bpmnFile, null,
                     baseElement.getId(), baseElement.getAttributeValue("name"), null, null, null,
-                    ex.getMessage());
+                    errorMessage);
         }
         return null;
     }
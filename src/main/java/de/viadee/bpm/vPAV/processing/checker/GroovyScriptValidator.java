@@ -0,0 +1,193 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.ScriptTask;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaScript;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyShell;
+
+/**
+ * Validates the syntax of groovy scripts without executing them
+ *
+ * Scripts are only compiled up to the semantic analysis, so no classes are generated or loaded. The validations run
+ * on a bounded pool as soon as the scripts are submitted, and the results are cached by script content.
+ *
+ */
+public class GroovyScriptValidator {
+
+    private static final CompilerConfiguration CONFIGURATION = new CompilerConfiguration();
+
+    private static final String SCRIPT_NAME = "Script.groovy";
+
+    private static final String GROOVY = "groovy";
+
+    private static final String VALID = "";
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final GroovyClassLoader classLoader;
+
+    private final ExecutorService executor;
+
+    private final ConcurrentMap<String, Future<String>> results = new ConcurrentHashMap<String, Future<String>>();
+
+    public GroovyScriptValidator() {
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        if (parent == null) {
+            parent = GroovyShell.class.getClassLoader();
+        }
+        this.classLoader = new GroovyClassLoader(parent, CONFIGURATION);
+
+        // idle threads are released, so the pool doesn't have to be shut down
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "vPAV-groovy-validation-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    /**
+     * start the validation of a groovy script in the background
+     *
+     * @param scriptText
+     *            script
+     * @return pending result, an error message or an empty string for a valid script
+     */
+    public Future<String> submit(final String scriptText) {
+        Future<String> result = results.get(scriptText);
+        if (result == null) {
+            final FutureTask<String> task = new FutureTask<String>(new Callable<String>() {
+                @Override
+                public String call() {
+                    return compile(scriptText);
+                }
+            });
+            result = results.putIfAbsent(scriptText, task);
+            if (result == null) {
+                result = task;
+                executor.execute(task);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * start the validation of all inline groovy scripts of a model in the background
+     *
+     * @param modelInstance
+     *            bpmn model
+     */
+    public void submitAll(final BpmnModelInstance modelInstance) {
+        for (final ScriptTask scriptTask : modelInstance.getModelElementsByType(ScriptTask.class)) {
+            if (isGroovy(scriptTask.getScriptFormat()) && scriptTask.getScript() != null
+                    && scriptTask.getScript().getTextContent() != null) {
+                submit(scriptTask.getScript().getTextContent());
+            }
+        }
+        for (final CamundaScript script : modelInstance.getModelElementsByType(CamundaScript.class)) {
+            if (isGroovy(script.getCamundaScriptFormat()) && script.getTextContent() != null) {
+                submit(script.getTextContent());
+            }
+        }
+    }
+
+    /**
+     * validate a groovy script and wait for the result
+     *
+     * @param scriptText
+     *            script
+     * @return error message or null, if the script is valid
+     */
+    public String validate(final String scriptText) {
+        final String result;
+        try {
+            result = submit(scriptText).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("groovy script couldn't be validated", ex);
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException("groovy script couldn't be validated", ex.getCause());
+        }
+        return result.equals(VALID) ? null : result;
+    }
+
+    /**
+     * cancel the pending validations, running compilations are interrupted
+     */
+    public void cancel() {
+        for (final Future<String> result : results.values()) {
+            result.cancel(true);
+        }
+        results.clear();
+    }
+
+    private String compile(final String scriptText) {
+        final CompilationUnit unit = new CompilationUnit(CONFIGURATION, null, classLoader);
+        unit.addSource(SCRIPT_NAME, scriptText);
+        try {
+            unit.compile(Phases.SEMANTIC_ANALYSIS);
+        } catch (final CompilationFailedException ex) {
+            return ex.getMessage();
+        }
+        return VALID;
+    }
+
+    private static boolean isGroovy(final String scriptFormat) {
+        return scriptFormat != null && scriptFormat.toLowerCase().equals(GROOVY);
+    }
+}
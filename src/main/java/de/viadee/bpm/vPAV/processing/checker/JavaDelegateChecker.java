@@ -29,11 +29,9 @@
  */
 package de.viadee.bpm.vPAV.processing.checker;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.List;
 
 import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
@@ -41,19 +39,20 @@ import org.camunda.bpm.model.bpmn.instance.BusinessRuleTask;
 import org.camunda.bpm.model.bpmn.instance.SendTask;
 import org.camunda.bpm.model.bpmn.instance.ServiceTask;
 import org.camunda.bpm.model.bpmn.instance.UserTask;
-import org.xml.sax.SAXException;
 
 import de.odysseus.el.tree.IdentifierNode;
 import de.odysseus.el.tree.Tree;
 import de.odysseus.el.tree.TreeBuilder;
 import de.odysseus.el.tree.impl.Builder;
-import de.viadee.bpm.vPAV.BPMNScanner;
+import de.viadee.bpm.vPAV.ClassIndex.TypeHierarchy;
 import de.viadee.bpm.vPAV.RuntimeConfig;
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.CheckName;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions.ListenerType;
 
 /**
  * Class JavaDelegateChecker
@@ -63,20 +62,6 @@ import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
  */
 public class JavaDelegateChecker extends AbstractElementChecker {
 
-    private final String path;
-
-    private final String c_executionList = "camunda:executionListener";
-
-    private final String c_taskList = "camunda:taskListener";
-
-    private final String c_class = "camunda:class";
-
-    private final String c_del = "camunda:delegateExpression";
-
-    private final String c_type = "camunda:type";
-
-    private final String impl = "implementation";
-
     private final String attr_class = "class";
 
     private final String attr_del = "delegateExpression";
@@ -97,46 +82,32 @@ public class JavaDelegateChecker extends AbstractElementChecker {
 
     private final String superClass_abstBpmnActBeh = "AbstractBpmnActivityBehavior";
 
-    public JavaDelegateChecker(final Rule rule, final String path) {
+    public JavaDelegateChecker(final Rule rule) {
         super(rule);
-        this.path = path;
     }
 
     @Override
     public Collection<CheckerIssue> check(final BpmnElement element) {
-
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement bpmnElement = element.getBaseElement();
-        final BPMNScanner scan;
-        String implementationAttr = null;
-        ArrayList<String> executionDelegate = new ArrayList<String>();
-        ArrayList<String> executionClass = new ArrayList<String>();
-        ArrayList<String> executionExpression = new ArrayList<String>();
-        ArrayList<String> taskDelegate = new ArrayList<String>();
-        ArrayList<String> taskClass = new ArrayList<String>();
-        ArrayList<String> taskExpression = new ArrayList<String>();
-
-        try {
-            scan = new BPMNScanner();
-            // read attributes from task
-            if ((bpmnElement instanceof ServiceTask || bpmnElement instanceof BusinessRuleTask
-                    || bpmnElement instanceof SendTask))
-                implementationAttr = scan.getImplementation(path, bpmnElement.getId());
-
-            if (bpmnElement instanceof UserTask) {
-                taskDelegate = scan.getListener(path, bpmnElement.getId(), attr_del, c_taskList);
-                taskClass = scan.getListener(path, bpmnElement.getId(), attr_class, c_taskList);
-                taskExpression = scan.getListener(path, bpmnElement.getId(), attr_ex, c_taskList);
-            }
 
-            executionDelegate = scan.getListener(path, bpmnElement.getId(), attr_del, c_executionList);
-            executionClass = scan.getListener(path, bpmnElement.getId(), attr_class, c_executionList);
-            executionExpression = scan.getListener(path, bpmnElement.getId(), attr_ex, c_executionList);
-
-        } catch (SAXException | IOException | ParserConfigurationException e) {
-            e.printStackTrace();
+        // read implementation and listeners from the shared summary of the element
+        final ElementExtensions extensions = element.getExtensions();
+        final String implementationAttr = extensions.getImplementation();
+        List<String> taskDelegate = new ArrayList<String>();
+        List<String> taskClass = new ArrayList<String>();
+        List<String> taskExpression = new ArrayList<String>();
+
+        if (bpmnElement instanceof UserTask) {
+            taskDelegate = extensions.getListeners(ListenerType.TASK, attr_del);
+            taskClass = extensions.getListeners(ListenerType.TASK, attr_class);
+            taskExpression = extensions.getListeners(ListenerType.TASK, attr_ex);
         }
 
+        final List<String> executionDelegate = extensions.getListeners(ListenerType.EXECUTION, attr_del);
+        final List<String> executionClass = extensions.getListeners(ListenerType.EXECUTION, attr_class);
+        final List<String> executionExpression = extensions.getListeners(ListenerType.EXECUTION, attr_ex);
+
         final String classAttr = bpmnElement.getAttributeValueNs(BpmnModelConstants.CAMUNDA_NS,
                 attr_class);
         final String delegateExprAttr = bpmnElement.getAttributeValueNs(BpmnModelConstants.CAMUNDA_NS,
@@ -150,7 +121,7 @@ public class JavaDelegateChecker extends AbstractElementChecker {
         if (implementationAttr != null && (bpmnElement instanceof ServiceTask || bpmnElement instanceof BusinessRuleTask
                 || bpmnElement instanceof SendTask)) {
             // check if class is correct
-            if (implementationAttr.equals(c_class)) {
+            if (implementationAttr.equals(attr_class)) {
                 if (classAttr == null || classAttr.trim().length() == 0) {
                     // Error, because no class has been configured
                     issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
@@ -163,7 +134,7 @@ public class JavaDelegateChecker extends AbstractElementChecker {
             }
 
             // check if delegateExpression is correct
-            else if (implementationAttr.equals(c_del)) {
+            else if (implementationAttr.equals(attr_del)) {
                 if (delegateExprAttr == null || delegateExprAttr.trim().length() == 0) {
                     // Error, because no delegateExpression has been configured
                     issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
@@ -204,7 +175,7 @@ public class JavaDelegateChecker extends AbstractElementChecker {
             }
 
             // check if external is correct
-            else if (implementationAttr.equals(c_type)) {
+            else if (implementationAttr.equals(attr_type)) {
                 if (typeAttr == null || typeAttr.trim().length() == 0) {
                     // Error, because no delegateExpression has been configured
                     issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
@@ -214,7 +185,7 @@ public class JavaDelegateChecker extends AbstractElementChecker {
                 }
             }
 
-            else if (implementationAttr.equals(impl))
+            else if (implementationAttr.equals(ElementExtensions.NO_IMPLEMENTATION))
                 if (dmnAttr == null && classAttr == null && delegateExprAttr == null
                         && exprAttr == null && typeAttr == null) {
                     // No technical attributes have been added
@@ -235,8 +206,8 @@ public class JavaDelegateChecker extends AbstractElementChecker {
         return issues;
     }
 
-    private Collection<CheckerIssue> checkListener(final BpmnElement element, ArrayList<String> aClass,
-            ArrayList<String> aDelegate, ArrayList<String> aExpression, boolean taskListener) {
+    private Collection<CheckerIssue> checkListener(final BpmnElement element, List<String> aClass,
+            List<String> aDelegate, List<String> aExpression, boolean taskListener) {
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement bpmnElement = element.getBaseElement();
         String location = "";
@@ -319,31 +290,35 @@ public class JavaDelegateChecker extends AbstractElementChecker {
             else
                 location = "in executionListener ";
 
-        // If a class path has been found, check the correctness
-        try {
-            Class<?> clazz = RuntimeConfig.getInstance().getClassLoader().loadClass(className);
+        // If a class path has been found, check the correctness. The class hierarchy is read from the class index,
+        // so the class isn't loaded
+        final TypeHierarchy typeHierarchy = RuntimeConfig.getInstance().getClassIndex()
+                .getTypeHierarchy(className);
+        if (typeHierarchy != null) {
 
-            // Checks, whether the correct interface was implemented
-            Class<?> sClass = clazz.getSuperclass();
+            // Checks, whether the correct superclass was extended
             boolean extendsSuperClass = false;
-            if (!listener && sClass.getName().contains(superClass_abstBpmnActBeh)) {
-                extendsSuperClass = true;
+            if (!listener) {
+                for (final String superclass : typeHierarchy.getSuperclasses()) {
+                    if (superclass.contains(superClass_abstBpmnActBeh)) {
+                        extendsSuperClass = true;
+                    }
+                }
             }
 
             // Checks, whether the correct interface was implemented
-            Class<?>[] interfaces = clazz.getInterfaces();
             boolean interfaceImplemented = false;
-            for (final Class<?> _interface : interfaces) {
+            for (final String _interface : typeHierarchy.getInterfaces()) {
                 if (!listener) {
-                    if (_interface.getName().contains(interface_del)
-                            || _interface.getName().contains(interface_SigActBeh)) {
+                    if (_interface.contains(interface_del)
+                            || _interface.contains(interface_SigActBeh)) {
                         interfaceImplemented = true;
                     }
                 } else {
-                    if (taskListener && _interface.getName().contains(interface_taskList)) {
+                    if (taskListener && _interface.contains(interface_taskList)) {
                         interfaceImplemented = true;
-                    } else if (_interface.getName().contains(interface_ExList)
-                            || _interface.getName().contains(interface_del)) {
+                    } else if (_interface.contains(interface_ExList)
+                            || _interface.contains(interface_del)) {
                         interfaceImplemented = true;
                     }
                 }
@@ -351,14 +326,15 @@ public class JavaDelegateChecker extends AbstractElementChecker {
 
             if (interfaceImplemented == false && extendsSuperClass == false) {
                 // class implements not the interface "JavaDelegate"
+                final String simpleName = className.substring(className.lastIndexOf('.') + 1);
                 issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
                         element.getProcessdefinition(), classPath, bpmnElement.getAttributeValue("id"),
                         bpmnElement.getAttributeValue("name"), null, null, null,
-                        "class '" + clazz.getSimpleName() + "' " + location
+                        "class '" + simpleName.substring(simpleName.lastIndexOf('$') + 1) + "' " + location
                                 + "does not implement/extends the correct interface/class"));
             }
 
-        } catch (final ClassNotFoundException e) {
+        } else {
             // Throws an error, if the class was not found
             issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.ERROR,
                     element.getProcessdefinition(), classPath, bpmnElement.getAttributeValue("id"),
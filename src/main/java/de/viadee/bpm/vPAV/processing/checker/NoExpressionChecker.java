@@ -29,12 +29,8 @@
  */
 package de.viadee.bpm.vPAV.processing.checker;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
-
-import javax.xml.parsers.ParserConfigurationException;
 
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 import org.camunda.bpm.model.bpmn.instance.BusinessRuleTask;
@@ -48,167 +44,78 @@ import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
 import org.camunda.bpm.model.bpmn.instance.ServiceTask;
 import org.camunda.bpm.model.bpmn.instance.StartEvent;
 import org.camunda.bpm.model.bpmn.instance.UserTask;
-import org.xml.sax.SAXException;
 
-import de.viadee.bpm.vPAV.BPMNScanner;
 import de.viadee.bpm.vPAV.config.model.Rule;
-import de.viadee.bpm.vPAV.config.model.Setting;
 import de.viadee.bpm.vPAV.processing.CheckName;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions;
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions.ListenerType;
 
 public class NoExpressionChecker extends AbstractElementChecker {
 
-    public String path;
-
-    public NoExpressionChecker(final Rule rule, final String path) {
+    public NoExpressionChecker(final Rule rule) {
         super(rule);
-        this.path = path;
     }
 
     @Override
     public Collection<CheckerIssue> check(BpmnElement element) {
-
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement baseElement = element.getBaseElement();
-        final BPMNScanner scan;
-
-        try {
-
-            scan = new BPMNScanner();
-
-            final Map<String, Setting> settings = rule.getSettings();
-
-            if (baseElement instanceof ServiceTask || baseElement instanceof BusinessRuleTask
-                    || baseElement instanceof SendTask || baseElement instanceof ScriptTask) {
-
-                // read attributes from task
-                final String implementationAttr = scan.getImplementation(path, baseElement.getId());
-
-                if (implementationAttr != null && implementationAttr.equals(scan.getC_exp())
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expressions in '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-
-                if (!listener.isEmpty() && listener.size() > 0
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-            } else if (baseElement instanceof IntermediateThrowEvent
-                    || baseElement instanceof EndEvent || baseElement instanceof StartEvent) {
-
-                // read attributes from event
-                final String implementationAttrEvent = scan.getEventImplementation(path, baseElement.getId());
-
-                if (implementationAttrEvent != null && implementationAttrEvent.contains(scan.getC_exp())
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in event '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-
-                if (!listener.isEmpty() && listener.size() > 0
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-            } else if (baseElement instanceof SequenceFlow) {
-
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-                if (!listener.isEmpty()
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-            } else if (baseElement instanceof ExclusiveGateway) {
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-                if (!listener.isEmpty()
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-            } else if (baseElement instanceof UserTask) {
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-                if (!listener.isEmpty()
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-                // get the task listener
-                final ArrayList<String> taskListener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:taskListener");
-                if (!taskListener.isEmpty()
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
-
-            } else if (baseElement instanceof ManualTask) {
-                // get the execution listener
-                final ArrayList<String> listener = scan.getListener(path, baseElement.getId(), "expression",
-                        "camunda:executionListener");
-                if (!listener.isEmpty()
-                        && !settings.containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
-                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                            element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
-                            baseElement.getAttributeValue("name"), null, null, null,
-                            "Usage of expression in listeners for '" + CheckName.checkName(baseElement)
-                                    + "' is against best practices."));
-                }
+
+        // element types in the settings are allowed to use expressions
+        if (rule.getSettings().containsKey(baseElement.getElementType().getInstanceType().getSimpleName())) {
+            return issues;
+        }
+
+        final ElementExtensions extensions = element.getExtensions();
+
+        if (baseElement instanceof ServiceTask || baseElement instanceof BusinessRuleTask
+                || baseElement instanceof SendTask || baseElement instanceof ScriptTask) {
+
+            // read attributes from task
+            if (ElementExtensions.EXPRESSION.equals(extensions.getImplementation())) {
+                issues.add(createIssue(element, "Usage of expressions in '" + CheckName.checkName(baseElement)
+                        + "' is against best practices."));
             }
 
-        } catch (ParserConfigurationException | SAXException |
+        } else if (baseElement instanceof IntermediateThrowEvent
+                || baseElement instanceof EndEvent || baseElement instanceof StartEvent) {
 
-                IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            // read attributes from event
+            if (extensions.getEventExpression() != null) {
+                issues.add(createIssue(element, "Usage of expression in event '" + CheckName.checkName(baseElement)
+                        + "' is against best practices."));
+            }
+
+        } else if (!(baseElement instanceof SequenceFlow || baseElement instanceof ExclusiveGateway
+                || baseElement instanceof UserTask || baseElement instanceof ManualTask)) {
+            // listeners of other elements aren't checked
+            return issues;
+        }
+
+        // get the execution listener
+        if (extensions.hasListener(ListenerType.EXECUTION, ElementExtensions.EXPRESSION)) {
+            issues.add(createIssue(element, "Usage of expression in listeners for '"
+                    + CheckName.checkName(baseElement) + "' is against best practices."));
+        }
+
+        // get the task listener
+        if (baseElement instanceof UserTask
+                && extensions.hasListener(ListenerType.TASK, ElementExtensions.EXPRESSION)) {
+            issues.add(createIssue(element, "Usage of expression in listeners for '"
+                    + CheckName.checkName(baseElement) + "' is against best practices."));
         }
 
         return issues;
     }
 
+    private CheckerIssue createIssue(final BpmnElement element, final String message) {
+        final BaseElement baseElement = element.getBaseElement();
+        return new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
+                element.getProcessdefinition(), null, baseElement.getAttributeValue("id"),
+                baseElement.getAttributeValue("name"), null, null, null, message);
+    }
+
 }
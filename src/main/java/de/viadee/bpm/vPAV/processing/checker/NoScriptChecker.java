@@ -59,8 +59,6 @@ import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
  */
 public class NoScriptChecker extends AbstractElementChecker {
 
-    private final String path;
-
     private final String process = "Process";
 
     private final String subProcess = "SubProcess";
@@ -69,13 +67,13 @@ public class NoScriptChecker extends AbstractElementChecker {
 
     private final String sequenceFlow = "SequenceFlow";
 
-    public NoScriptChecker(final Rule rule, final String path) {
+    public NoScriptChecker(final Rule rule) {
         super(rule);
-        this.path = path;
     }
 
     @Override
     public Collection<CheckerIssue> check(final BpmnElement element) {
+        final String path = element.getProcessdefinition();
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
         final BaseElement bpmnElement = element.getBaseElement();
@@ -31,8 +31,12 @@ package de.viadee.bpm.vPAV.processing.checker;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 
@@ -42,6 +46,7 @@ import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.data.KnownElementFieldType;
 import de.viadee.bpm.vPAV.processing.model.data.ProcessVariable;
 import de.viadee.bpm.vPAV.processing.model.data.VariableOperation;
 
@@ -50,8 +55,11 @@ import de.viadee.bpm.vPAV.processing.model.data.VariableOperation;
  */
 public class ProcessVariablesNameConventionChecker extends AbstractElementChecker {
 
+    private final List<ConventionVerdicts> conventions;
+
     public ProcessVariablesNameConventionChecker(final Rule rule) {
         super(rule);
+        this.conventions = createConventionVerdicts(rule.getElementConventions());
     }
 
     /**
@@ -71,7 +79,8 @@ public class ProcessVariablesNameConventionChecker extends AbstractElementChecke
     }
 
     /**
-     * Use regular expressions to check process variable conventions
+     * Use regular expressions to check process variable conventions. The verdict for a variable name is evaluated once
+     * per convention and reused for all elements, which write the same variable.
      *
      * @param element
      * @return issues
@@ -80,41 +89,80 @@ public class ProcessVariablesNameConventionChecker extends AbstractElementChecke
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
-        final Collection<ElementConvention> elementConventions = rule.getElementConventions();
+        for (final ConventionVerdicts verdicts : conventions) {
+            final ElementConvention convention = verdicts.convention;
+            for (final ProcessVariable variable : element.getProcessVariables().values()) {
+                if (variable.getOperation() == VariableOperation.WRITE
+                        && verdicts.fieldTypesInRange.contains(variable.getFieldType())
+                        && !verdicts.matches(variable.getName())) {
+                    final BaseElement baseElement = element.getBaseElement();
+                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
+                            element.getProcessdefinition(), variable.getResourceFilePath(),
+                            baseElement.getId(), baseElement.getAttributeValue("name"),
+                            variable.getName(), null, null,
+                            "process variable (" + variable.getName()
+                                    + ") is against the naming convention " + convention.getName()
+                                    + " (compare model: " + variable.getChapter() + ", "
+                                    + variable.getFieldType().getDescription() + ")"));
+                }
+            }
+        }
+
+        return issues;
+    }
+
+    /**
+     * resolve the field types of each convention once, conventions without field types don't apply to any variable
+     *
+     * @param elementConventions
+     * @return conventions with their field types and verdict caches
+     */
+    private static List<ConventionVerdicts> createConventionVerdicts(
+            final Collection<ElementConvention> elementConventions) {
+        final List<ConventionVerdicts> conventions = new ArrayList<ConventionVerdicts>();
         if (elementConventions != null) {
             for (final ElementConvention convention : elementConventions) {
-                final Pattern pattern = Pattern.compile(convention.getPattern());
                 final ElementFieldTypes fieldTypes = convention.getElementFieldTypes();
-                final Collection<String> fieldTypeItems = fieldTypes.getElementFieldTypes();
-                for (final ProcessVariable variable : element.getProcessVariables().values()) {
-                    if (variable.getOperation() == VariableOperation.WRITE) {
-                        if (fieldTypeItems != null) {
-                            boolean isInRange = false;
-                            if (fieldTypes.isExcluded()) {
-                                isInRange = !fieldTypeItems.contains(variable.getFieldType().name());
-                            } else {
-                                isInRange = fieldTypeItems.contains(variable.getFieldType().name());
-                            }
-                            if (isInRange) {
-                                final Matcher patternMatcher = pattern.matcher(variable.getName());
-                                if (!patternMatcher.matches()) {
-                                    final BaseElement baseElement = element.getBaseElement();
-                                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                            element.getProcessdefinition(), variable.getResourceFilePath(),
-                                            baseElement.getId(), baseElement.getAttributeValue("name"),
-                                            variable.getName(), null, null,
-                                            "process variable (" + variable.getName()
-                                                    + ") is against the naming convention " + convention.getName()
-                                                    + " (compare model: " + variable.getChapter() + ", "
-                                                    + variable.getFieldType().getDescription() + ")"));
-                                }
-                            }
-                        }
+                if (fieldTypes == null || fieldTypes.getElementFieldTypes() == null) {
+                    continue;
+                }
+                final Set<KnownElementFieldType> fieldTypesInRange = EnumSet.noneOf(KnownElementFieldType.class);
+                for (final KnownElementFieldType fieldType : KnownElementFieldType.values()) {
+                    final boolean listed = fieldTypes.getElementFieldTypes().contains(fieldType.name());
+                    if (listed != fieldTypes.isExcluded()) {
+                        fieldTypesInRange.add(fieldType);
                     }
                 }
+                conventions.add(new ConventionVerdicts(convention, fieldTypesInRange));
             }
         }
+        return Collections.unmodifiableList(conventions);
+    }
 
-        return issues;
+    /**
+     * convention with the field types it applies to and the verdicts for the variable names seen so far
+     */
+    private static final class ConventionVerdicts {
+
+        private final ElementConvention convention;
+
+        private final Set<KnownElementFieldType> fieldTypesInRange;
+
+        private final ConcurrentMap<String, Boolean> verdicts = new ConcurrentHashMap<String, Boolean>();
+
+        private ConventionVerdicts(final ElementConvention convention,
+                final Set<KnownElementFieldType> fieldTypesInRange) {
+            this.convention = convention;
+            this.fieldTypesInRange = fieldTypesInRange;
+        }
+
+        private boolean matches(final String variableName) {
+            Boolean verdict = verdicts.get(variableName);
+            if (verdict == null) {
+                verdict = convention.getCompiledPattern().matcher(variableName).matches();
+                verdicts.put(variableName, verdict);
+            }
+            return verdict;
+        }
     }
 }
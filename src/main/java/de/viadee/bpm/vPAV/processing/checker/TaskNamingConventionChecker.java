@@ -62,10 +62,9 @@ public class TaskNamingConventionChecker extends AbstractElementChecker {
                 throw new ProcessingException(
                         "task naming convention checker must have one element convention!");
             }
-            final String patternString = elementConventions.iterator().next().getPattern();
+            final Pattern pattern = elementConventions.iterator().next().getCompiledPattern();
             final String taskName = baseElement.getAttributeValue("name");
             if (taskName != null && taskName.trim().length() > 0) {
-                final Pattern pattern = Pattern.compile(patternString);
                 Matcher matcher = pattern.matcher(taskName);
                 if (!matcher.matches()) {
                     issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
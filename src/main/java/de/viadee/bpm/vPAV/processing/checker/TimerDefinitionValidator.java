@@ -0,0 +1,152 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import java.text.ParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+import net.time4j.range.IsoRecurrence;
+import net.time4j.range.MomentInterval;
+
+/**
+ * Validates timer definitions (timeDate, timeDuration and timeCycle) of timer events
+ *
+ * The parsers are created once and shared. The results are cached by timer type and expression.
+ *
+ */
+public class TimerDefinitionValidator {
+
+    public static final String TIME_DATE = "timeDate";
+
+    public static final String TIME_DURATION = "timeDuration";
+
+    public static final String TIME_CYCLE = "timeCycle";
+
+    private static final DatatypeFactory datatypeFactory = createDatatypeFactory();
+
+    private static final CronParser cronParser = new CronParser(
+            CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+
+    private static final String VALID = "";
+
+    private final ConcurrentMap<String, String> results = new ConcurrentHashMap<String, String>();
+
+    /**
+     * validate a timer definition
+     *
+     * @param timerType
+     *            local name of the definition element (timeDate, timeDuration or timeCycle)
+     * @param timerDefinition
+     *            expression
+     * @return description of the violated scheme or null, if the definition is valid or the type is unknown
+     */
+    public String validate(final String timerType, final String timerDefinition) {
+        final String key = timerType + ':' + timerDefinition;
+        String result = results.get(key);
+        if (result == null) {
+            result = parse(timerType, timerDefinition);
+            results.putIfAbsent(key, result);
+        }
+        return result.equals(VALID) ? null : result;
+    }
+
+    private static String parse(final String timerType, final String timerDefinition) {
+        if (TIME_DATE.equals(timerType)) {
+            try {
+                DatatypeConverter.parseDateTime(timerDefinition);
+            } catch (Exception e) {
+                return "does not follow the ISO 8601 scheme for timeDates.";
+            }
+        } else if (TIME_DURATION.equals(timerType)) {
+            try {
+                datatypeFactory.newDuration(timerDefinition);
+            } catch (Exception e) {
+                return "does not follow the ISO 8601 scheme for timeDuration.";
+            }
+        } else if (TIME_CYCLE.equals(timerType)) {
+            return parseCycle(timerDefinition);
+        }
+        return VALID;
+    }
+
+    private static String parseCycle(final String timerDefinition) {
+        final boolean isCron = !timerDefinition.contains("P") && !timerDefinition.contains("Z")
+                && timerDefinition.contains(" ");
+        final boolean hasRepeatingIntervals = timerDefinition.startsWith("R");
+        final boolean isDur = timerDefinition.startsWith("P")
+                && !(timerDefinition.contains("/") || timerDefinition.contains("--"));
+
+        if (isCron) {
+            try {
+                cronParser.parse(timerDefinition).validate();
+            } catch (IllegalArgumentException e) {
+                return "does not follow the scheme for CRON jobs.";
+            }
+        } else if (hasRepeatingIntervals) {
+            if (!isDur) {
+                try {
+                    IsoRecurrence.parseMomentIntervals(timerDefinition);
+                } catch (ParseException ex) {
+                    return "does not follow the ISO 8601 scheme for repeating intervals.";
+                }
+            }
+        } else if (isDur) {
+            try {
+                datatypeFactory.newDuration(timerDefinition);
+            } catch (Exception ex) {
+                return "does not follow the ISO 8601 scheme for durations as interval.";
+            }
+        } else {
+            try {
+                MomentInterval.parseISO(timerDefinition);
+            } catch (ParseException e) {
+                return "does not follow the ISO 8601 scheme for intervals.";
+            }
+        }
+        return VALID;
+    }
+
+    private static DatatypeFactory createDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (final DatatypeConfigurationException e) {
+            throw new RuntimeException("DatatypeFactory couldn't be created", e);
+        }
+    }
+}
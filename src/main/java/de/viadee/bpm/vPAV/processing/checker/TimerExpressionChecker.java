@@ -29,210 +29,72 @@
  */
 package de.viadee.bpm.vPAV.processing.checker;
 
-import java.io.IOException;
-import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.xml.bind.DatatypeConverter;
-import javax.xml.datatype.DatatypeFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.List;
 
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
-import org.camunda.bpm.model.bpmn.instance.BoundaryEvent;
-import org.camunda.bpm.model.bpmn.instance.IntermediateCatchEvent;
-import org.camunda.bpm.model.bpmn.instance.StartEvent;
-import org.w3c.dom.Element;
-import org.xml.sax.SAXException;
-
-import com.cronutils.model.Cron;
-import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
-import com.cronutils.model.definition.CronDefinitionBuilder;
-import com.cronutils.parser.CronParser;
+import org.camunda.bpm.model.bpmn.instance.CatchEvent;
+import org.camunda.bpm.model.bpmn.instance.EventDefinition;
+import org.camunda.bpm.model.bpmn.instance.TimerEventDefinition;
+import org.camunda.bpm.model.xml.instance.DomElement;
 
-import de.viadee.bpm.vPAV.BPMNScanner;
 import de.viadee.bpm.vPAV.config.model.Rule;
 import de.viadee.bpm.vPAV.processing.CheckName;
 import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
 import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
 import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
-import net.time4j.range.IsoRecurrence;
-import net.time4j.range.MomentInterval;
 
 public class TimerExpressionChecker extends AbstractElementChecker {
 
-    final String path;
-
-    final String timeDate = "timeDate";
-
-    final String timeDuration = "timeDuration";
-
-    final String timeCycle = "timeCycle";
+    private final TimerDefinitionValidator validator = new TimerDefinitionValidator();
 
-    public TimerExpressionChecker(final Rule rule, final String path) {
+    public TimerExpressionChecker(final Rule rule) {
         super(rule);
-        this.path = path;
     }
 
     @Override
     public Collection<CheckerIssue> check(final BpmnElement element) {
-
         final BaseElement baseElement = element.getBaseElement();
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
-        // Map with string (contains the timer definiton) and the element itself (contains name and id)
-        Map<Element, Element> list = new HashMap<>();
-        final BPMNScanner scan;
-
-        // check if the element is an event and retrieve id
-        if (baseElement.getId() != null && (baseElement instanceof IntermediateCatchEvent
-                || baseElement instanceof StartEvent || baseElement instanceof BoundaryEvent)) {
-
-            try {
-
-                scan = new BPMNScanner();
-                list = scan.getTimerImplementation(path, baseElement.getId());
-                String timerDefinition;
-
-                for (Map.Entry<Element, Element> entry : list.entrySet()) {
-
-                    if (entry.getValue() != null) {
-                        timerDefinition = entry.getValue().getParentNode().getTextContent().trim();
-                    } else {
-                        timerDefinition = "";
-                    }
-
-                    if (timerDefinition != null && !timerDefinition.trim().isEmpty()) {
-
-                        // timeDate
-                        if (entry.getValue() != null && (entry.getValue().getNodeName() != null
-                                && entry.getValue().getNodeName().contains(timeDate))) {
-                            try {
-                                DatatypeConverter.parseDateTime(timerDefinition);
-                            } catch (Exception e) {
-                                issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                        element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                        baseElement.getAttributeValue("name"), null, null, null,
-                                        "time event '" + CheckName.checkTimer(entry.getKey())
-                                                + "' does not follow the ISO 8601 scheme for timeDates."));
-                            }
-                        }
-                        // timeDuration
-                        if (entry.getValue() != null && (entry.getValue().getNodeName() != null
-                                && entry.getValue().getNodeName().contains(timeDuration))) {
-                            try {
-                                DatatypeFactory.newInstance().newDuration(timerDefinition);
-                            } catch (Exception e) {
-                                issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                        element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                        baseElement.getAttributeValue("name"), null, null, null,
-                                        "time event '" + CheckName.checkTimer(entry.getKey())
-                                                + "' does not follow the ISO 8601 scheme for timeDuration."));
-                            }
-                        }
-                        // timeCycle
-                        if (entry.getValue() != null && (entry.getValue().getNodeName() != null
-                                && entry.getValue().getNodeName().contains(timeCycle))) {
-
-                            boolean isCron = false;
-                            boolean isDur = false;
-                            boolean hasRepeatingIntervals = false;
-
-                            if (!timerDefinition.contains("P") && !timerDefinition.contains("Z")
-                                    && timerDefinition.contains(" ")) {
-                                isCron = true;
-                            }
-
-                            if (timerDefinition.startsWith("R")) {
-                                hasRepeatingIntervals = true;
-                            }
-
-                            if (timerDefinition.startsWith("P")
-                                    && !(timerDefinition.contains("/") || timerDefinition.contains("--"))) {
-                                isDur = true;
-                            }
-
-                            if (isCron) {
-                                try {
-                                    CronDefinition cronDef = CronDefinitionBuilder
-                                            .instanceDefinitionFor(CronType.QUARTZ);
-                                    CronParser cronParser = new CronParser(cronDef);
-                                    Cron cronJob = cronParser.parse(timerDefinition);
-                                    cronJob.validate();
-                                } catch (IllegalArgumentException e) {
-                                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                            element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                            baseElement.getAttributeValue("name"), null, null, null,
-                                            "time event '" + CheckName.checkTimer(entry.getKey())
-                                                    + "' does not follow the scheme for CRON jobs."));
-                                }
-                            }
-
-                            if (!isCron && !hasRepeatingIntervals && !isDur) {
-                                try {
-                                    MomentInterval.parseISO(timerDefinition);
-                                } catch (ParseException e) {
-                                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                            element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                            baseElement.getAttributeValue("name"), null, null, null,
-                                            "time event '" + CheckName.checkTimer(entry.getKey())
-                                                    + "' does not follow the ISO 8601 scheme for intervals."));
-                                }
-                            }
-
-                            if (!isCron && hasRepeatingIntervals && !isDur) {
-                                try {
-                                    IsoRecurrence<MomentInterval> ir = IsoRecurrence
-                                            .parseMomentIntervals(timerDefinition);
-                                } catch (ParseException ex) {
-                                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                            element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                            baseElement.getAttributeValue("name"), null, null, null,
-                                            "time event '" + CheckName.checkTimer(entry.getKey())
-                                                    + "' does not follow the ISO 8601 scheme for repeating intervals."));
-                                }
-                            }
-
-                            if (isDur && !isCron && !hasRepeatingIntervals) {
-                                try {
-                                    DatatypeFactory.newInstance().newDuration(timerDefinition);
-                                } catch (Exception ex) {
-                                    issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                            element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                            baseElement.getAttributeValue("name"), null, null, null,
-                                            "time event '" + CheckName.checkTimer(entry.getKey())
-                                                    + "' does not follow the ISO 8601 scheme for durations as interval."));
-                                }
-                            }
-                        }
-
-                    } else if (entry.getValue() == null || entry.getValue().getLocalName() == null
-                            || entry.getValue().getLocalName().isEmpty()) {
-                        issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
-                                baseElement.getAttributeValue("name"), null, null, null,
-                                "time event '" + CheckName.checkTimer(entry.getKey())
-                                        + "' has no timer definition type specified "));
-
-                    } else if (timerDefinition == null || timerDefinition.trim().isEmpty()) {
+        // start events, intermediate catch events and boundary events can hold timer definitions
+        if (baseElement.getId() != null && baseElement instanceof CatchEvent) {
+            for (final EventDefinition eventDefinition : ((CatchEvent) baseElement).getEventDefinitions()) {
+                if (eventDefinition instanceof TimerEventDefinition) {
+                    final String message = checkTimerEventDefinition((TimerEventDefinition) eventDefinition);
+                    if (message != null) {
                         issues.add(new CheckerIssue(rule.getName(), CriticalityEnum.WARNING,
-                                element.getProcessdefinition(), null, entry.getKey().getAttribute("id"),
+                                element.getProcessdefinition(), null, baseElement.getId(),
                                 baseElement.getAttributeValue("name"), null, null, null,
-                                "time event '" + CheckName.checkTimer(entry.getKey())
-                                        + "' has no timer definition specified "));
+                                "time event '" + CheckName.checkName(baseElement) + "' " + message));
                     }
                 }
-
-            } catch (SAXException | IOException | ParserConfigurationException e) {
-                // TODO Auto-generated catch block
-                e.printStackTrace();
             }
-
         }
 
         return issues;
     }
+
+    /**
+     * check the timeDate, timeDuration or timeCycle of a timer event definition
+     *
+     * @param timerEventDefinition
+     * @return message or null, if the definition is valid
+     */
+    private String checkTimerEventDefinition(final TimerEventDefinition timerEventDefinition) {
+        // the last child element determines the type of the timer definition
+        final List<DomElement> childElements = timerEventDefinition.getDomElement().getChildElements();
+        if (childElements.isEmpty() || childElements.get(childElements.size() - 1).getLocalName() == null
+                || childElements.get(childElements.size() - 1).getLocalName().isEmpty()) {
+            return "has no timer definition type specified ";
+        }
+        final String timerType = childElements.get(childElements.size() - 1).getLocalName();
+
+        final String timerDefinition = timerEventDefinition.getTextContent().trim();
+        if (timerDefinition.isEmpty()) {
+            return "has no timer definition specified ";
+        }
+        return validator.validate(timerType, timerDefinition);
+    }
 }
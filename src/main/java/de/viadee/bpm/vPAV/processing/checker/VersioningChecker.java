@@ -66,11 +66,16 @@ import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
  */
 public class VersioningChecker extends AbstractElementChecker {
 
-    private Collection<String> resourcesNewestVersions;
+    private final Set<String> resourcesNewestVersions;
 
     public VersioningChecker(final Rule rule, final Collection<String> resourcesNewestVersions) {
         super(rule);
-        this.resourcesNewestVersions = resourcesNewestVersions;
+        // the newest versions are looked up for every reference, so a hashed set is needed
+        if (resourcesNewestVersions instanceof Set) {
+            this.resourcesNewestVersions = (Set<String>) resourcesNewestVersions;
+        } else {
+            this.resourcesNewestVersions = new HashSet<String>(resourcesNewestVersions);
+        }
     }
 
     @Override
@@ -65,6 +65,9 @@ public class BpmnElement {
 
   private Map<String, ProcessVariable> processVariables;
 
+  /* listeners and implementation, read on first access */
+  private ElementExtensions extensions;
+
   public BpmnElement(final String processdefinition, final BaseElement element) {
     this.processdefinition = processdefinition;
     this.baseElement = element;
@@ -79,6 +82,18 @@ public class BpmnElement {
     return baseElement;
   }
 
+  /**
+   * listeners and implementation of the element, which are shared by all checkers
+   *
+   * @return summary of the element extensions
+   */
+  public ElementExtensions getExtensions() {
+    if (extensions == null) {
+      extensions = ElementExtensions.create(baseElement);
+    }
+    return extensions;
+  }
+
   public Map<String, ProcessVariable> getProcessVariables() {
     return processVariables;
   }
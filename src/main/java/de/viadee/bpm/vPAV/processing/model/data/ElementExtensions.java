@@ -0,0 +1,228 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.model.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+import org.camunda.bpm.model.bpmn.instance.BusinessRuleTask;
+import org.camunda.bpm.model.bpmn.instance.EventDefinition;
+import org.camunda.bpm.model.bpmn.instance.ExtensionElements;
+import org.camunda.bpm.model.bpmn.instance.MessageEventDefinition;
+import org.camunda.bpm.model.bpmn.instance.SendTask;
+import org.camunda.bpm.model.bpmn.instance.ServiceTask;
+import org.camunda.bpm.model.bpmn.instance.ThrowEvent;
+import org.camunda.bpm.model.xml.instance.DomElement;
+import org.camunda.bpm.model.xml.instance.ModelElementInstance;
+
+/**
+ * Summary of the listeners and the implementation of a bpmn element, which is read in one pass over the element
+ *
+ */
+public class ElementExtensions {
+
+  public static final String CLASS = "class";
+
+  public static final String EXPRESSION = "expression";
+
+  public static final String DELEGATE_EXPRESSION = "delegateExpression";
+
+  public static final String DECISION_REF = "decisionRef";
+
+  public static final String TYPE = "type";
+
+  /** implementation of a task without technical attributes */
+  public static final String NO_IMPLEMENTATION = "implementation";
+
+  /* implementation attributes in the order of precedence known from the xml scan */
+  private static final String[] IMPLEMENTATION_ATTRIBUTES = { CLASS, DECISION_REF, DELEGATE_EXPRESSION,
+      EXPRESSION, TYPE };
+
+  private static final String[] LISTENER_ATTRIBUTES = { CLASS, EXPRESSION, DELEGATE_EXPRESSION };
+
+  public enum ListenerType {
+    EXECUTION("executionListener"), TASK("taskListener");
+
+    private final String localName;
+
+    ListenerType(final String localName) {
+      this.localName = localName;
+    }
+
+    public String getLocalName() {
+      return localName;
+    }
+  }
+
+  private final String implementation;
+
+  private final String eventExpression;
+
+  private final Map<ListenerType, Map<String, List<String>>> listeners;
+
+  private ElementExtensions(final String implementation, final String eventExpression,
+      final Map<ListenerType, Map<String, List<String>>> listeners) {
+    this.implementation = implementation;
+    this.eventExpression = eventExpression;
+    this.listeners = listeners;
+  }
+
+  /**
+   * reads the implementation and the listeners of a bpmn element
+   *
+   * @param baseElement
+   *          bpmn element
+   * @return summary of the element extensions
+   */
+  public static ElementExtensions create(final BaseElement baseElement) {
+    final Map<ListenerType, Map<String, List<String>>> listeners = new EnumMap<ListenerType, Map<String, List<String>>>(
+        ListenerType.class);
+    for (final ListenerType type : ListenerType.values()) {
+      final Map<String, List<String>> values = new HashMap<String, List<String>>();
+      for (final String attribute : LISTENER_ATTRIBUTES) {
+        values.put(attribute, new ArrayList<String>());
+      }
+      listeners.put(type, values);
+    }
+
+    final ExtensionElements extensionElements = baseElement.getExtensionElements();
+    if (extensionElements != null) {
+      for (final ModelElementInstance extension : extensionElements.getElements()) {
+        final DomElement dom = extension.getDomElement();
+        if (!BpmnModelConstants.CAMUNDA_NS.equals(dom.getNamespaceURI())) {
+          continue;
+        }
+        for (final ListenerType type : ListenerType.values()) {
+          if (type.getLocalName().equals(dom.getLocalName())) {
+            readListener(dom, listeners.get(type));
+          }
+        }
+      }
+    }
+
+    return new ElementExtensions(readImplementation(baseElement), readEventExpression(baseElement),
+        listeners);
+  }
+
+  private static void readListener(final DomElement listener, final Map<String, List<String>> values) {
+    for (final String attribute : LISTENER_ATTRIBUTES) {
+      if (listener.hasAttribute(attribute)) {
+        // an empty attribute is kept, so that checkers can report it
+        final String value = listener.getAttribute(attribute);
+        values.get(attribute).add(value == null ? "" : value);
+      }
+    }
+  }
+
+  private static String readImplementation(final BaseElement baseElement) {
+    if (!(baseElement instanceof ServiceTask || baseElement instanceof BusinessRuleTask
+        || baseElement instanceof SendTask)) {
+      return null;
+    }
+    String implementation = NO_IMPLEMENTATION;
+    final DomElement dom = baseElement.getDomElement();
+    for (final String attribute : IMPLEMENTATION_ATTRIBUTES) {
+      if (dom.hasAttribute(BpmnModelConstants.CAMUNDA_NS, attribute)) {
+        implementation = attribute;
+      }
+    }
+    return implementation;
+  }
+
+  private static String readEventExpression(final BaseElement baseElement) {
+    String expression = null;
+    if (baseElement instanceof ThrowEvent) {
+      for (final EventDefinition definition : ((ThrowEvent) baseElement).getEventDefinitions()) {
+        final DomElement dom = definition.getDomElement();
+        if (definition instanceof MessageEventDefinition
+            && dom.hasAttribute(BpmnModelConstants.CAMUNDA_NS, EXPRESSION)) {
+          final String value = dom.getAttribute(BpmnModelConstants.CAMUNDA_NS, EXPRESSION);
+          expression = value == null ? "" : value;
+        }
+      }
+    }
+    return expression;
+  }
+
+  /**
+   * implementation attribute of a service, send or business rule task
+   *
+   * @return name of the camunda attribute (e.g. "class"), "implementation" if no technical attribute has been set or
+   *         null, if the element is no such task
+   */
+  public String getImplementation() {
+    return implementation;
+  }
+
+  /**
+   * camunda expression of a message event definition in an end or intermediate throw event
+   *
+   * @return expression or null
+   */
+  public String getEventExpression() {
+    return eventExpression;
+  }
+
+  /**
+   * values of a listener attribute
+   *
+   * @param type
+   *          execution or task listener
+   * @param attribute
+   *          "class", "expression" or "delegateExpression"
+   * @return values in document order, empty if no listener sets the attribute
+   */
+  public List<String> getListeners(final ListenerType type, final String attribute) {
+    final List<String> values = listeners.get(type).get(attribute);
+    if (values == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * checks whether a listener of the given type uses the given attribute
+   *
+   * @param type
+   *          execution or task listener
+   * @param attribute
+   *          "class", "expression" or "delegateExpression"
+   * @return true, if at least one listener sets the attribute
+   */
+  public boolean hasListener(final ListenerType type, final String attribute) {
+    return !getListeners(type, attribute).isEmpty();
+  }
+}
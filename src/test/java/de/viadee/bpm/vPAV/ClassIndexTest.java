@@ -0,0 +1,182 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.viadee.bpm.vPAV.ClassIndex.TypeHierarchy;
+
+/**
+ * unit tests for class ClassIndex
+ *
+ */
+public class ClassIndexTest {
+
+    private static final String TEST_CLASSES = "target/test-classes/";
+
+    private static final String DELEGATE_FILE = "de/viadee/bpm/vPAV/delegates/TestDelegate.class";
+
+    private static final String SIGNAL_DELEGATE_FILE = "de/viadee/bpm/vPAV/delegates/"
+            + "DelegateWithCorrectInterfaceSignal.class";
+
+    private static ClassLoader cl;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setup() throws MalformedURLException {
+        final URL[] classUrls = { new File("target/test-classes").toURI().toURL() };
+        cl = new URLClassLoader(classUrls);
+    }
+
+    /**
+     * Case: superclasses and inherited interfaces are resolved from the index
+     */
+    @Test
+    public void testTypeHierarchy() {
+        // Given
+        final ClassIndex classIndex = new ClassIndex(cl, new File(folder.getRoot(), "classIndex.ser"));
+
+        // When
+        final TypeHierarchy hierarchy = classIndex
+                .getTypeHierarchy("de.viadee.bpm.vPAV.delegates.DelegateWithCorrectInterfaceAbstract");
+
+        // Then
+        assertNotNull("class not found", hierarchy);
+        assertEquals("org.camunda.bpm.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior",
+                hierarchy.getSuperclasses().iterator().next());
+        assertTrue("inherited interface not resolved", hierarchy.getInterfaces()
+                .contains("org.camunda.bpm.engine.impl.pvm.delegate.SignallableActivityBehavior"));
+        assertNull("non existing class found", classIndex.getTypeHierarchy("de.viadee.bpm.vPAV.NotExisting"));
+    }
+
+    /**
+     * Case: hierarchies are resolved once and shared
+     */
+    @Test
+    public void testMemoizedTypeHierarchy() {
+        // Given
+        final ClassIndex classIndex = new ClassIndex(cl, new File(folder.getRoot(), "classIndex.ser"));
+        final String className = "de.viadee.bpm.vPAV.delegates.DelegateWithCorrectInterfaceSignal";
+
+        // When
+        final TypeHierarchy hierarchy = classIndex.getTypeHierarchy(className);
+
+        // Then
+        assertSame("type hierarchy is not memoized", hierarchy, classIndex.getTypeHierarchy(className));
+        assertNull(classIndex.getTypeHierarchy("de.viadee.bpm.vPAV.NotExisting"));
+        assertNull(classIndex.getTypeHierarchy("de.viadee.bpm.vPAV.NotExisting"));
+    }
+
+    /**
+     * Case: index is persisted and read again
+     */
+    @Test
+    public void testPersistedIndex() {
+        // Given
+        final File indexFile = new File(folder.getRoot(), "classIndex.ser");
+        new ClassIndex(cl, indexFile).getTypeHierarchy("de.viadee.bpm.vPAV.delegates.TestDelegate");
+
+        // When
+        final TypeHierarchy hierarchy = new ClassIndex(cl, indexFile)
+                .getTypeHierarchy("de.viadee.bpm.vPAV.delegates.TestDelegate");
+
+        // Then
+        assertTrue("index not persisted", indexFile.isFile());
+        assertTrue(hierarchy.getInterfaces().contains("org.camunda.bpm.engine.delegate.JavaDelegate"));
+    }
+
+    /**
+     * Case: broken class files don't prevent the indexing of the other classes of a class folder or jar
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testBrokenClassFiles() throws IOException {
+        // Given
+        final File classFolder = folder.newFolder("classes");
+        final Path delegate = classFolder.toPath().resolve(DELEGATE_FILE);
+        Files.createDirectories(delegate.getParent());
+        Files.copy(Paths.get(TEST_CLASSES + DELEGATE_FILE), delegate);
+        Files.write(classFolder.toPath().resolve("Broken.class"), "broken".getBytes(StandardCharsets.UTF_8));
+
+        final File jar = folder.newFile("delegates.jar");
+        try (final JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("Broken.class"));
+            out.write("broken".getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new JarEntry(SIGNAL_DELEGATE_FILE));
+            out.write(Files.readAllBytes(Paths.get(TEST_CLASSES + SIGNAL_DELEGATE_FILE)));
+        }
+
+        // the class loader doesn't provide class files, so the classes can only be found in the index
+        final URL[] classUrls = { classFolder.toURI().toURL(), jar.toURI().toURL() };
+        final ClassLoader indexOnlyClassLoader = new URLClassLoader(classUrls, null) {
+            @Override
+            public InputStream getResourceAsStream(final String name) {
+                return null;
+            }
+        };
+        final File indexFile = new File(folder.getRoot(), "classIndex.ser");
+
+        // When
+        final ClassIndex classIndex = new ClassIndex(indexOnlyClassLoader, indexFile);
+
+        // Then
+        assertNotNull("class of class folder not indexed",
+                classIndex.getTypeHierarchy("de.viadee.bpm.vPAV.delegates.TestDelegate"));
+        assertNotNull("class of jar not indexed",
+                classIndex.getTypeHierarchy("de.viadee.bpm.vPAV.delegates.DelegateWithCorrectInterfaceSignal"));
+        assertTrue("index not persisted", indexFile.isFile());
+    }
+}
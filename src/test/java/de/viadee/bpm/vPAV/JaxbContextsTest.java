@@ -0,0 +1,88 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.bind.JAXBContext;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.config.reader.XmlRuleSet;
+import de.viadee.bpm.vPAV.output.XmlCheckerIssues;
+
+/**
+ * unit tests for class JaxbContexts
+ *
+ */
+public class JaxbContextsTest {
+
+    /**
+     * Case: each root class gets one shared context, also under concurrent first use
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testContextIsShared() throws Exception {
+        // Given
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final Collection<Callable<JAXBContext>> tasks = new ArrayList<Callable<JAXBContext>>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(new Callable<JAXBContext>() {
+                @Override
+                public JAXBContext call() throws Exception {
+                    return JaxbContexts.get(XmlRuleSet.class);
+                }
+            });
+        }
+
+        // When
+        final List<Future<JAXBContext>> contexts;
+        try {
+            contexts = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        final JAXBContext context = JaxbContexts.get(XmlRuleSet.class);
+        for (final Future<JAXBContext> future : contexts) {
+            Assert.assertSame(context, future.get());
+        }
+        Assert.assertNotSame(context, JaxbContexts.get(XmlCheckerIssues.class));
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Test;
+
+/**
+ * unit tests for class ModelIdScanner
+ *
+ */
+public class ModelIdScannerTest {
+
+    private static final String BASE_PATH = "src/test/resources/";
+
+    /**
+     * Case: process ids of bpmn models with and without namespace prefix
+     *
+     * @throws IOException
+     * @throws XMLStreamException
+     */
+    @Test
+    public void testReadProcessIds() throws IOException, XMLStreamException {
+        assertEquals(Arrays.asList("Process_1"),
+                ModelIdScanner.readProcessIds(new File(BASE_PATH + "BPMN_Model_Version_V1.bpmn")));
+        assertEquals(Arrays.asList("exampleProcess"),
+                ModelIdScanner.readProcessIds(new File(BASE_PATH + "BPMN_Model_Version_V2.bpmn")));
+        assertEquals(Arrays.asList("loanApproval"),
+                ModelIdScanner.readProcessIds(new File(BASE_PATH + "BPMN_Model_Version_V3.bpmn")));
+    }
+
+    /**
+     * Case: decision ids of a dmn model
+     *
+     * @throws IOException
+     * @throws XMLStreamException
+     */
+    @Test
+    public void testReadDecisionIds() throws IOException, XMLStreamException {
+        assertEquals(Arrays.asList("decision"), ModelIdScanner.readDecisionIds(new File(BASE_PATH + "table.dmn")));
+    }
+}
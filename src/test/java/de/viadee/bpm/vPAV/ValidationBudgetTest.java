@@ -0,0 +1,136 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+
+/**
+ * unit tests for class ValidationBudget
+ *
+ */
+public class ValidationBudgetTest {
+
+    /**
+     * Case: a complete run is never stopped
+     */
+    @Test
+    public void testUnlimited() {
+        // Given
+        final ValidationBudget budget = ValidationBudget.unlimited();
+        budget.start(Collections.<String> emptySet());
+
+        // When
+        budget.record(Arrays.asList(createIssue("Task_1", CriticalityEnum.ERROR),
+                createIssue("Task_2", CriticalityEnum.ERROR)));
+
+        // Then
+        Assert.assertFalse(budget.isExhausted());
+        Assert.assertFalse(budget.isFailFast());
+        Assert.assertFalse(budget.hasTimeBudget());
+    }
+
+    /**
+     * Case: fail-fast run stops at the first error, warnings and ignored errors don't count
+     */
+    @Test
+    public void testStopAtFirstError() {
+        // Given
+        final CheckerIssue ignoredError = createIssue("Task_1", CriticalityEnum.ERROR);
+        final ValidationBudget budget = new ValidationBudget(true, 0, 0);
+        budget.start(Collections.singleton(ignoredError.getId()));
+
+        // When
+        budget.record(Arrays.asList(ignoredError, createIssue("Task_2", CriticalityEnum.WARNING)));
+
+        // Then
+        Assert.assertTrue(budget.isFailFast());
+        Assert.assertFalse("warnings and ignored issues shouldn't stop the run", budget.isExhausted());
+
+        // When
+        budget.record(Collections.singleton(createIssue("Task_3", CriticalityEnum.ERROR)));
+
+        // Then
+        Assert.assertTrue("the first error should stop the run", budget.isExhausted());
+    }
+
+    /**
+     * Case: run stops after a number of issues
+     */
+    @Test
+    public void testMaxIssues() {
+        // Given
+        final ValidationBudget budget = new ValidationBudget(false, 2, 0);
+        budget.start(Collections.<String> emptySet());
+
+        // When
+        budget.record(Collections.singleton(createIssue("Task_1", CriticalityEnum.WARNING)));
+
+        // Then
+        Assert.assertFalse(budget.isExhausted());
+
+        // When
+        budget.record(Collections.singleton(createIssue("Task_2", CriticalityEnum.WARNING)));
+
+        // Then
+        Assert.assertTrue(budget.isExhausted());
+    }
+
+    /**
+     * Case: run stops after the time budget
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testTimeBudget() throws InterruptedException {
+        // Given
+        final ValidationBudget budget = new ValidationBudget(false, 0, 1);
+        budget.start(Collections.<String> emptySet());
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        Assert.assertTrue(budget.hasTimeBudget());
+        Assert.assertFalse("a time budget should still write reports", budget.isFailFast());
+        Assert.assertTrue(budget.isExhausted());
+    }
+
+    private static CheckerIssue createIssue(final String elementId, final CriticalityEnum classification) {
+        return new CheckerIssue("NoScriptChecker", classification, "model.bpmn", null, elementId, null, null, null,
+                null, "message of " + elementId);
+    }
+}
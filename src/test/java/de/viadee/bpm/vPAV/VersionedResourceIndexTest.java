@@ -0,0 +1,70 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class VersionedResourceIndexTest {
+
+    private static final String SCHEMA = "([^_]*)_{1}([0-9]+[_][0-9]+)\\.(class|groovy)";
+
+    /**
+     * Case: numeric version parts are compared by value
+     */
+    @Test
+    public void testNewestVersion() {
+        // Given
+        final VersionedResourceIndex index = VersionedResourceIndex.create(Arrays.asList("TestDelegate_1_9.class",
+                "TestDelegate_1_10.class", "TestDelegate_1_2.class", "testScript_2_0.groovy"), SCHEMA);
+
+        // Then
+        assertTrue(index.getNewestVersions().contains("TestDelegate_1_10.class"));
+        assertTrue(index.getNewestVersions().contains("testScript_2_0.groovy"));
+        assertFalse(index.getNewestVersions().contains("TestDelegate_1_9.class"));
+        assertEquals(2, index.getNewestVersions().size());
+    }
+
+    /**
+     * Case: comparison of file names with digit sequences
+     */
+    @Test
+    public void testCompareVersions() {
+        assertTrue(VersionedResourceIndex.compareVersions("v10", "v9") > 0);
+        assertTrue(VersionedResourceIndex.compareVersions("v1_2", "v1_10") < 0);
+        assertTrue(VersionedResourceIndex.compareVersions("v01", "v1") != 0);
+        assertEquals(0, VersionedResourceIndex.compareVersions("v1_2", "v1_2"));
+    }
+}
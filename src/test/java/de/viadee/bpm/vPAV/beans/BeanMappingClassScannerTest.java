@@ -0,0 +1,99 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.viadee.bpm.vPAV.delegates.AnnotatedDelegate;
+import de.viadee.bpm.vPAV.delegates.TestDelegate;
+
+/**
+ * Unit Tests for BeanMappingClassScanner
+ *
+ */
+public class BeanMappingClassScannerTest {
+
+    private static final String ANNOTATED_DELEGATE_FILE = "de/viadee/bpm/vPAV/delegates/AnnotatedDelegate.class";
+
+    /* major version of java 17 class files */
+    private static final int JAVA_17 = 61;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Case: annotated classes are found in the compiled test classes
+     */
+    @Test
+    public void testAnnotatedBeans() {
+        // When
+        final Map<String, String> beanMapping = BeanMappingClassScanner.scan(new File("target/test-classes"));
+
+        // Then
+        assertEquals(AnnotatedDelegate.class.getName(), beanMapping.get("annotatedDelegate"));
+        assertEquals(AnnotatedDelegate.NestedDelegate.class.getName(),
+                beanMapping.get("annotatedDelegate.NestedDelegate"));
+        assertFalse("class without annotation is mapped", beanMapping.containsValue(TestDelegate.class.getName()));
+    }
+
+    /**
+     * Case: class files of newer java releases (version above 52) are read
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testNewerClassFileVersion() throws IOException {
+        // Given
+        final byte[] classFile = Files.readAllBytes(Paths.get("target/test-classes/" + ANNOTATED_DELEGATE_FILE));
+        classFile[6] = (byte) (JAVA_17 >> 8);
+        classFile[7] = (byte) JAVA_17;
+        final Path target = folder.getRoot().toPath().resolve(ANNOTATED_DELEGATE_FILE);
+        Files.createDirectories(target.getParent());
+        Files.write(target, classFile);
+
+        // When
+        final Map<String, String> beanMapping = BeanMappingClassScanner.scan(folder.getRoot());
+
+        // Then
+        assertEquals(AnnotatedDelegate.class.getName(), beanMapping.get("annotatedDelegate"));
+    }
+}
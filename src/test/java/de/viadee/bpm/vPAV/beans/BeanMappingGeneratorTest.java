@@ -0,0 +1,90 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+import de.viadee.bpm.vPAV.delegates.TestDelegate;
+
+/**
+ * Unit Tests for BeanMappingGenerator
+ *
+ */
+public class BeanMappingGeneratorTest {
+
+    private static boolean instantiated = false;
+
+    public static class LazyBean {
+
+        public LazyBean() {
+            instantiated = true;
+        }
+    }
+
+    /**
+     * Case: bean mapping is generated without creating lazy beans
+     */
+    @Test
+    public void testBeansAreNotInstantiated() {
+        // Given
+        final GenericApplicationContext ctx = new GenericApplicationContext();
+        final RootBeanDefinition lazyBean = new RootBeanDefinition(LazyBean.class);
+        lazyBean.setLazyInit(true);
+        ctx.registerBeanDefinition("lazyBean", lazyBean);
+        ctx.registerBeanDefinition("testDelegate", new RootBeanDefinition(TestDelegate.class));
+        ctx.refresh();
+        instantiated = false;
+
+        // When
+        final Map<String, String> beanMapping = BeanMappingGenerator.generateBeanMappingFile(ctx);
+
+        // Then
+        assertFalse("lazy bean has been instantiated", instantiated);
+        assertEquals(LazyBean.class.getName(), beanMapping.get("lazyBean"));
+        assertEquals(TestDelegate.class.getName(), beanMapping.get("testDelegate"));
+        assertSame("bean mapping is not cached", beanMapping, BeanMappingGenerator.generateBeanMappingFile(ctx));
+        try {
+            beanMapping.put("otherBean", TestDelegate.class.getName());
+            fail("cached bean mapping can be changed");
+        } catch (final UnsupportedOperationException ex) {
+            // expected
+        }
+        ctx.close();
+    }
+}
@@ -29,6 +29,7 @@
  */
 package de.viadee.bpm.vPAV.config.reader;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -44,6 +45,7 @@ import org.junit.Test;
 import de.viadee.bpm.vPAV.AbstractRunner;
 import de.viadee.bpm.vPAV.ConstantsConfig;
 import de.viadee.bpm.vPAV.RuntimeConfig;
+import de.viadee.bpm.vPAV.config.model.ElementConvention;
 import de.viadee.bpm.vPAV.config.model.Rule;
 
 public class XmlConfigReaderTest {
@@ -147,4 +149,25 @@ public class XmlConfigReaderTest {
 
         reader.read("ruleSetIncorrectRegEx.xml");
     }
+
+    /**
+     * Test that the patterns of the conventions are compiled when the config file is read
+     *
+     * @throws ConfigReaderException
+     */
+    @Test()
+    public void testCompiledConventionPatterns() throws ConfigReaderException {
+        // Given
+        XmlConfigReader reader = new XmlConfigReader();
+
+        // When
+        Map<String, Rule> result = reader.read(ConstantsConfig.RULESET);
+
+        // Then
+        final Rule rule = result.get("ProcessVariablesNameConventionChecker");
+        assertFalse("No element conventions could be read", rule.getElementConventions().isEmpty());
+        for (final ElementConvention convention : rule.getElementConventions()) {
+            assertEquals(convention.getPattern().trim(), convention.getCompiledPattern().pattern());
+        }
+    }
 }
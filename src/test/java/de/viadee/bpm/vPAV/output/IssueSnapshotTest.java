@@ -0,0 +1,72 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.processing.model.data.Anomaly;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+
+/**
+ * unit tests for class IssueSnapshot
+ *
+ */
+public class IssueSnapshotTest {
+
+    /**
+     * Case: the snapshot holds the values of the issues and reads each path element once
+     */
+    @Test
+    public void testSnapshot() {
+        // Given
+        final List<CheckerIssue> issues = OutputWriterTestIssues.createIssues();
+
+        // When
+        final List<IssueSnapshot> snapshot = IssueSnapshot.of(issues);
+
+        // Then
+        Assert.assertEquals(2, snapshot.size());
+        final IssueSnapshot first = snapshot.get(0);
+        Assert.assertEquals(issues.get(0).getId(), first.getId());
+        Assert.assertEquals("ERROR", first.getClassification());
+        Assert.assertEquals(Anomaly.UR.getDescription(), first.getAnomaly());
+        Assert.assertEquals(3, first.getPaths().size());
+        Assert.assertEquals("StartEvent_1", first.getPaths().get(0).get(0).getId());
+        Assert.assertNull(first.getPaths().get(0).get(0).getName());
+        Assert.assertEquals("Service Task", first.getPaths().get(0).get(1).getName());
+        Assert.assertSame(first.getPaths().get(0).get(1), first.getPaths().get(1).get(0));
+        Assert.assertTrue(first.getPaths().get(2).isEmpty());
+        Assert.assertTrue(snapshot.get(1).getPaths().isEmpty());
+        Assert.assertNull(snapshot.get(1).getAnomaly());
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import de.viadee.bpm.vPAV.ConstantsConfig;
+import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.graph.Path;
+
+/**
+ * unit tests for class JsonOutputWriter
+ *
+ */
+public class JsonOutputWriterTest {
+
+    private static Collection<CheckerIssue> issues;
+
+    @BeforeClass
+    public static void setup() {
+        new File(ConstantsConfig.VALIDATION_FOLDER).mkdirs();
+        issues = OutputWriterTestIssues.createIssues();
+    }
+
+    /**
+     * Case: the streamed json equals the pretty printed json tree of gson
+     *
+     * @throws OutputWriterException
+     * @throws IOException
+     */
+    @Test
+    public void testSameOutputAsJsonTree() throws OutputWriterException, IOException {
+        // Given
+        final JsonOutputWriter writer = new JsonOutputWriter();
+
+        // When
+        writer.write(IssueSnapshot.of(issues));
+
+        // Then
+        final String json = new String(Files.readAllBytes(Paths.get(ConstantsConfig.VALIDATION_JSON_OUTPUT)),
+                StandardCharsets.UTF_8);
+        Assert.assertEquals(new GsonBuilder().setPrettyPrinting().create().toJson(createJsonTree(issues)), json);
+    }
+
+    /**
+     * Case: no issues
+     *
+     * @throws OutputWriterException
+     * @throws IOException
+     */
+    @Test
+    public void testNoIssues() throws OutputWriterException, IOException {
+        // Given
+        final JsonOutputWriter writer = new JsonOutputWriter();
+
+        // When
+        writer.write(IssueSnapshot.of(new ArrayList<CheckerIssue>()));
+
+        // Then
+        final String json = new String(Files.readAllBytes(Paths.get(ConstantsConfig.VALIDATION_JSON_OUTPUT)),
+                StandardCharsets.UTF_8);
+        Assert.assertEquals("[]", json);
+    }
+
+    /**
+     * json tree, which has been written by the former implementation
+     */
+    private static JsonArray createJsonTree(final Collection<CheckerIssue> issues) {
+        final JsonArray jsonIssues = new JsonArray();
+        for (final CheckerIssue issue : issues) {
+            final JsonObject obj = new JsonObject();
+            obj.addProperty("id", issue.getId());
+            obj.addProperty("bpmnFile", issue.getBpmnFile());
+            obj.addProperty("ruleName", issue.getRuleName());
+            obj.addProperty("elementId", issue.getElementId());
+            obj.addProperty("elementName", issue.getElementName());
+            obj.addProperty("classification", issue.getClassification().name());
+            obj.addProperty("resourceFile", issue.getResourceFile());
+            obj.addProperty("variable", issue.getVariable());
+            obj.addProperty("anomaly", issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription());
+            final JsonArray jsonPaths = new JsonArray();
+            if (issue.getInvalidPaths() != null) {
+                for (final Path path : issue.getInvalidPaths()) {
+                    final JsonArray jsonPath = new JsonArray();
+                    for (final BpmnElement element : path.getElements()) {
+                        final JsonObject jsonElement = new JsonObject();
+                        final String name = element.getBaseElement().getAttributeValue("name");
+                        jsonElement.addProperty("elementId", element.getBaseElement().getId());
+                        jsonElement.addProperty("elementName", name == null ? null : name.replaceAll("\n", ""));
+                        jsonPath.add(jsonElement);
+                    }
+                    jsonPaths.add(jsonPath);
+                }
+            }
+            obj.add("paths", jsonPaths);
+            obj.addProperty("message", issue.getMessage());
+            jsonIssues.add(obj);
+        }
+        return jsonIssues;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+
+import de.viadee.bpm.vPAV.processing.model.data.Anomaly;
+import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.data.CriticalityEnum;
+import de.viadee.bpm.vPAV.processing.model.graph.Path;
+
+/**
+ * issues shared by the tests of the output writers
+ *
+ */
+final class OutputWriterTestIssues {
+
+    private static final String BASE_PATH = "src/test/resources/";
+
+    static final String PATH = BASE_PATH + "ElementExtensionsTest_Listeners.bpmn";
+
+    private OutputWriterTestIssues() {
+    }
+
+    /**
+     * creates an anomaly with a full, a partial and an empty path and characters to be escaped, and an issue
+     * without paths
+     *
+     * @return issues
+     */
+    static List<CheckerIssue> createIssues() {
+        final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
+        final List<BpmnElement> elements = new ArrayList<BpmnElement>();
+        for (final String id : Arrays.asList("StartEvent_1", "ServiceTask_1", "UserTask_1")) {
+            elements.add(new BpmnElement(PATH, (BaseElement) modelInstance.getModelElementById(id)));
+        }
+
+        final List<CheckerIssue> issues = new ArrayList<CheckerIssue>();
+        issues.add(new CheckerIssue("ProcessVariablesModelChecker", CriticalityEnum.ERROR, PATH, null, "UserTask_1",
+                "User\nTask", "int_var", Anomaly.UR,
+                Arrays.asList(new Path(elements), new Path(elements.subList(1, 3)),
+                        new Path(new ArrayList<BpmnElement>())),
+                "process variable creates an anomaly <UR> & 'quotes' \"äöü\""));
+        issues.add(new CheckerIssue("NoScriptChecker", CriticalityEnum.WARNING, PATH, "Script.groovy",
+                "ServiceTask_1", null, null, null, null, "task 'ServiceTask_1' with 'executionListener' script"));
+        return issues;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.ConstantsConfig;
+import de.viadee.bpm.vPAV.JaxbContexts;
+import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+import de.viadee.bpm.vPAV.processing.model.graph.Path;
+
+/**
+ * unit tests for class XmlOutputWriter
+ *
+ */
+public class XmlOutputWriterTest {
+
+    private static Collection<CheckerIssue> issues;
+
+    @BeforeClass
+    public static void setup() {
+        new File(ConstantsConfig.VALIDATION_FOLDER).mkdirs();
+        issues = OutputWriterTestIssues.createIssues();
+    }
+
+    /**
+     * Case: the streamed xml has the schema of the jaxb data structure and the same content
+     *
+     * @throws OutputWriterException
+     * @throws JAXBException
+     */
+    @Test
+    public void testSameContentAsJaxbDatastructure() throws OutputWriterException, JAXBException {
+        // Given
+        final XmlOutputWriter writer = new XmlOutputWriter();
+
+        // When
+        writer.write(IssueSnapshot.of(issues));
+
+        // Then
+        Assert.assertEquals(marshal(createXmlDatastructure(issues)), marshal(readOutput()));
+    }
+
+    /**
+     * Case: no issues
+     *
+     * @throws OutputWriterException
+     * @throws JAXBException
+     */
+    @Test
+    public void testNoIssues() throws OutputWriterException, JAXBException {
+        // Given
+        final XmlOutputWriter writer = new XmlOutputWriter();
+
+        // When
+        writer.write(IssueSnapshot.of(new ArrayList<CheckerIssue>()));
+
+        // Then
+        Assert.assertTrue(readOutput().getIssues().isEmpty());
+    }
+
+    private static XmlCheckerIssues readOutput() throws JAXBException {
+        return (XmlCheckerIssues) JaxbContexts.get(XmlCheckerIssues.class).createUnmarshaller()
+                .unmarshal(new File(ConstantsConfig.VALIDATION_XML_OUTPUT));
+    }
+
+    private static String marshal(final XmlCheckerIssues xmlIssues) throws JAXBException {
+        final JAXBContext context = JaxbContexts.get(XmlCheckerIssues.class);
+        final Marshaller m = context.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        final StringWriter writer = new StringWriter();
+        m.marshal(xmlIssues, writer);
+        return writer.toString();
+    }
+
+    /**
+     * jaxb data structure, which has been marshalled by the former implementation
+     */
+    private static XmlCheckerIssues createXmlDatastructure(final Collection<CheckerIssue> issues) {
+        final XmlCheckerIssues xmlIssues = new XmlCheckerIssues();
+        for (final CheckerIssue issue : issues) {
+            final List<XmlPath> xmlPaths = new ArrayList<XmlPath>();
+            if (issue.getInvalidPaths() != null) {
+                for (final Path path : issue.getInvalidPaths()) {
+                    final List<XmlPathElement> pathElements = new ArrayList<XmlPathElement>();
+                    for (final BpmnElement element : path.getElements()) {
+                        final String name = element.getBaseElement().getAttributeValue("name");
+                        pathElements.add(new XmlPathElement(element.getBaseElement().getId(),
+                                name == null ? null : name.replace("\n", "")));
+                    }
+                    xmlPaths.add(new XmlPath(pathElements));
+                }
+            }
+            final String elementName = issue.getElementName();
+            xmlIssues.addIssue(new XmlCheckerIssue(issue.getId(), issue.getRuleName(),
+                    issue.getClassification().name(), issue.getBpmnFile(), issue.getResourceFile(),
+                    issue.getElementId(), elementName == null ? null : elementName.replace("\n", ""),
+                    issue.getMessage(), issue.getVariable(),
+                    issue.getAnomaly() == null ? null : issue.getAnomaly().getDescription(),
+                    xmlPaths.isEmpty() ? null : xmlPaths));
+        }
+        return xmlIssues;
+    }
+}
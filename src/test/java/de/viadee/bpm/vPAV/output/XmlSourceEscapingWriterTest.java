@@ -0,0 +1,99 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * unit tests for class XmlSourceEscapingWriter
+ *
+ */
+public class XmlSourceEscapingWriterTest {
+
+    private static final String BASE_PATH = "src/test/resources/";
+
+    /**
+     * Case: quotes, line breaks and runs of blanks or apostrophes between tags
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testTrickySources() throws IOException {
+        final String[] sources = { "", ">", "<", "> <", ">  \n\r  <", "a=\"b\"", ">'<", ">''' <", "> '<",
+                ">' '<", ">'>'<", "> > <", "> x <", ">'", "> ", ">\"<", "text'\r\n", "''>''<''" };
+        for (final String source : sources) {
+            Assert.assertEquals(source, convert(source), escape(source));
+        }
+    }
+
+    /**
+     * Case: all test models are converted like before
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testModels() throws IOException {
+        final File[] models = new File(BASE_PATH).listFiles();
+        Assert.assertNotNull(models);
+        for (final File model : models) {
+            if (model.getName().endsWith(".bpmn")) {
+                final String source = new String(Files.readAllBytes(model.toPath()));
+                Assert.assertEquals(model.getName(), convert(source), escape(source));
+            }
+        }
+    }
+
+    private static String escape(final String source) throws IOException {
+        final StringWriter target = new StringWriter();
+        try (final XmlSourceEscapingWriter writer = new XmlSourceEscapingWriter(target)) {
+            // write in small chunks to cross the buffer borders
+            for (int i = 0; i < source.length(); i += 3) {
+                writer.write(source, i, Math.min(3, source.length() - i));
+            }
+        }
+        return target.toString();
+    }
+
+    /* conversion of the xml source before streaming */
+    private static String convert(String s) {
+        s = s.replace("\"", "\\\"");
+        s = s.replace('\n', ' ');
+        s = s.replace('\r', ' ');
+        s = s.replaceAll(">\\u0020*<", "><");
+        s = s.replaceAll(">\\u0027*<", "><");
+        return s;
+    }
+}
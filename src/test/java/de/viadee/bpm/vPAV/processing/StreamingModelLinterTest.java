@@ -0,0 +1,159 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.AbstractRunner;
+import de.viadee.bpm.vPAV.config.model.Rule;
+import de.viadee.bpm.vPAV.processing.checker.CheckerDispatchTable;
+import de.viadee.bpm.vPAV.processing.checker.CheckerFactory;
+import de.viadee.bpm.vPAV.processing.checker.ElementChecker;
+import de.viadee.bpm.vPAV.processing.model.data.BpmnElement;
+import de.viadee.bpm.vPAV.processing.model.data.CheckerIssue;
+
+/**
+ * unit tests for class StreamingModelLinter
+ *
+ */
+public class StreamingModelLinterTest {
+
+    private static final String BASE_PATH = "src/test/resources/";
+
+    private static final String[] LINT_RULES = { "ElementIdConventionChecker", "TaskNamingConventionChecker",
+            "NoScriptChecker", "NoExpressionChecker" };
+
+    private static Map<String, Rule> rules;
+
+    @BeforeClass
+    public static void setup() {
+        // only the lint rules are active
+        rules = new HashMap<String, Rule>();
+        for (final Rule rule : AbstractRunner.readConfig().values()) {
+            rules.put(rule.getName(), new Rule(rule.getName(), false, rule.getSettings(),
+                    rule.getElementConventions(), rule.getModelConventions()));
+        }
+        for (final String name : LINT_RULES) {
+            final Rule rule = rules.get(name);
+            rules.put(name, new Rule(name, true, rule.getSettings(), rule.getElementConventions(),
+                    rule.getModelConventions()));
+        }
+    }
+
+    /**
+     * Case: the streaming lint finds the same issues as the element checkers on the model instance
+     *
+     * @throws ConfigItemNotFoundException
+     */
+    @Test
+    public void testSameIssuesAsElementCheckers() throws ConfigItemNotFoundException {
+        // Given
+        final StreamingModelLinter linter = new StreamingModelLinter(rules);
+        final CheckerDispatchTable checkers = CheckerFactory.createCheckerDispatchTable(rules,
+                Collections.<String> emptySet());
+        final File[] models = new File(BASE_PATH).listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.endsWith(".bpmn");
+            }
+        });
+        int issueCount = 0;
+
+        for (final File model : models) {
+            // When
+            final List<String> lintIssues = describe(linter.lint(model));
+
+            // Then
+            final List<String> checkerIssues = describe(check(model, checkers));
+            Assert.assertEquals("issues of " + model.getName(), checkerIssues, lintIssues);
+            issueCount += lintIssues.size();
+        }
+        Assert.assertTrue("the test models should contain issues", issueCount > 0);
+    }
+
+    /**
+     * Case: inactive rules aren't evaluated
+     *
+     * @throws ConfigItemNotFoundException
+     */
+    @Test
+    public void testInactiveRules() throws ConfigItemNotFoundException {
+        // Given
+        final Map<String, Rule> inactiveRules = new HashMap<String, Rule>();
+        for (final Rule rule : rules.values()) {
+            inactiveRules.put(rule.getName(), new Rule(rule.getName(), false, rule.getSettings(),
+                    rule.getElementConventions(), rule.getModelConventions()));
+        }
+        final StreamingModelLinter linter = new StreamingModelLinter(inactiveRules);
+
+        // When
+        final Collection<CheckerIssue> issues = linter
+                .lint(new File(BASE_PATH + "NoScriptCheckerTest_ModelWithExecutionlistenerScript.bpmn"));
+
+        // Then
+        Assert.assertTrue("inactive rules shouldn't generate issues", issues.isEmpty());
+    }
+
+    private static Collection<CheckerIssue> check(final File model, final CheckerDispatchTable checkers) {
+        final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
+        final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(model);
+        for (final BaseElement baseElement : modelInstance.getModelElementsByType(BaseElement.class)) {
+            final BpmnElement element = new BpmnElement(model.getPath(), baseElement);
+            for (final ElementChecker checker : checkers.getCheckers(baseElement)) {
+                issues.addAll(checker.check(element));
+            }
+        }
+        return issues;
+    }
+
+    private static List<String> describe(final Collection<CheckerIssue> issues) {
+        final List<String> descriptions = new ArrayList<String>();
+        for (final CheckerIssue issue : issues) {
+            descriptions.add(issue.getRuleName() + "|" + issue.getClassification() + "|" + issue.getBpmnFile()
+                    + "|" + issue.getElementId() + "|" + issue.getElementName() + "|" + issue.getMessage());
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.RuntimeConfig;
+import de.viadee.bpm.vPAV.config.model.Rule;
+import de.viadee.bpm.vPAV.processing.ConfigItemNotFoundException;
+
+public class CheckerDispatchTableTest {
+
+    /**
+     * Case: elements are routed only to the checkers for their type
+     *
+     * @throws ConfigItemNotFoundException
+     */
+    @Test
+    public void testCheckersByElementType() throws ConfigItemNotFoundException {
+        // Given
+        final Map<String, Rule> rules = new HashMap<String, Rule>();
+        for (final String ruleName : RuntimeConfig.getInstance().getAllRules()) {
+            rules.put(ruleName, new Rule(ruleName, false, null, null, null));
+        }
+        rules.put("DmnTaskChecker", new Rule("DmnTaskChecker", true, null, null, null));
+        rules.put("TaskNamingConventionChecker", new Rule("TaskNamingConventionChecker", true, null, null, null));
+
+        final BpmnModelInstance modelInstance = Bpmn.createExecutableProcess("process").startEvent("start")
+                .businessRuleTask("decide").userTask("approve").endEvent().done();
+        final BaseElement start = modelInstance.getModelElementById("start");
+        final BaseElement decide = modelInstance.getModelElementById("decide");
+        final BaseElement approve = modelInstance.getModelElementById("approve");
+
+        // When
+        final CheckerDispatchTable table = CheckerFactory.createCheckerDispatchTable(rules,
+                new ArrayList<String>());
+
+        // Then
+        assertTrue(table.getCheckers(start).isEmpty());
+
+        final List<ElementChecker> businessRuleTaskCheckers = table.getCheckers(decide);
+        assertEquals(2, businessRuleTaskCheckers.size());
+        assertTrue(businessRuleTaskCheckers.get(0) instanceof DmnTaskChecker);
+        assertTrue(businessRuleTaskCheckers.get(1) instanceof TaskNamingConventionChecker);
+
+        final List<ElementChecker> userTaskCheckers = table.getCheckers(approve);
+        assertEquals(1, userTaskCheckers.size());
+        assertSame(businessRuleTaskCheckers.get(1), userTaskCheckers.get(0));
+    }
+}
@@ -92,7 +92,7 @@ public class DmnTaskCheckerTest {
     public void testCorrectDMN()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "DmnTaskCheckerTest_CorrectDMN.bpmn";
-        checker = new DmnTaskChecker(rule, PATH);
+        checker = new DmnTaskChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -123,7 +123,7 @@ public class DmnTaskCheckerTest {
     public void testDMNTaskWithoutReference()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "DmnTaskCheckerTest_WrongDmnTask.bpmn";
-        checker = new DmnTaskChecker(rule, PATH);
+        checker = new DmnTaskChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -158,7 +158,7 @@ public class DmnTaskCheckerTest {
     public void testDMNTaskWithWrongDMN()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "DmnTaskCheckerTest_wrongDMNReference.bpmn";
-        checker = new DmnTaskChecker(rule, PATH);
+        checker = new DmnTaskChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -193,7 +193,7 @@ public class DmnTaskCheckerTest {
     public void testReadReferencedDMNFile()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "DmnTaskCheckerTest_ReadReferencedDMN.bpmn";
-        checker = new DmnTaskChecker(rule, PATH);
+        checker = new DmnTaskChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -0,0 +1,81 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Future;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Test;
+
+public class GroovyScriptValidatorTest {
+
+    /**
+     * Case: valid scripts are not executed
+     */
+    @Test
+    public void testValidScript() {
+        final GroovyScriptValidator validator = new GroovyScriptValidator();
+
+        assertNull(validator.validate("def sum = a + b\nthrow new IllegalStateException(\"not executed\")"));
+    }
+
+    /**
+     * Case: syntax errors are reported and cached by script content
+     */
+    @Test
+    public void testInvalidScript() {
+        final GroovyScriptValidator validator = new GroovyScriptValidator();
+
+        final String message = validator.validate("def x = (1 + ");
+        assertTrue(message.startsWith("startup failed:"));
+        assertSame(message, validator.validate(new String("def x = (1 + ")));
+    }
+
+    /**
+     * Case: scripts of a model are validated in the background and joined on validation
+     */
+    @Test
+    public void testSubmitAll() {
+        final GroovyScriptValidator validator = new GroovyScriptValidator();
+        final BpmnModelInstance modelInstance = Bpmn.createExecutableProcess("process").startEvent()
+                .scriptTask("script").scriptFormat("groovy").scriptText("def x = (1 + ").endEvent().done();
+
+        validator.submitAll(modelInstance);
+
+        final Future<String> result = validator.submit("def x = (1 + ");
+        assertSame(result, validator.submit("def x = (1 + "));
+        assertTrue(validator.validate("def x = (1 + ").startsWith("startup failed:"));
+    }
+}
@@ -93,7 +93,7 @@ public class NoExpressionCheckerTest {
     public void testTaskWithoutExpression()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoExpressionChecker_WithoutExpressions.bpmn";
-        checker = new NoExpressionChecker(rule, PATH);
+        checker = new NoExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -125,7 +125,7 @@ public class NoExpressionCheckerTest {
     public void testTaskWithExpression()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoExpressionChecker_WithExpressions.bpmn";
-        checker = new NoExpressionChecker(rule, PATH);
+        checker = new NoExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -157,7 +157,7 @@ public class NoExpressionCheckerTest {
     public void testEventsWithExpression()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoExpressionChecker_EventsWithExpressions.bpmn";
-        checker = new NoExpressionChecker(rule, PATH);
+        checker = new NoExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -189,7 +189,7 @@ public class NoExpressionCheckerTest {
     public void testSequenceFlowWithExpression()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoExpressionChecker_SequenceFlowWithExpression.bpmn";
-        checker = new NoExpressionChecker(rule, PATH);
+        checker = new NoExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
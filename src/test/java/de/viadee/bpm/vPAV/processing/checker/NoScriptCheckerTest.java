@@ -98,7 +98,7 @@ public class NoScriptCheckerTest {
     public void testModelWithNoScript()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithoutScript.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -127,7 +127,7 @@ public class NoScriptCheckerTest {
     public void testModelWithInputScript()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithInputScript.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -160,7 +160,7 @@ public class NoScriptCheckerTest {
     public void testModelWithOutputScript()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithOutputScript.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -193,7 +193,7 @@ public class NoScriptCheckerTest {
     public void testModelWithExecutionlistenerScript()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithExecutionlistenerScript.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -227,7 +227,7 @@ public class NoScriptCheckerTest {
     public void testModelWithTasklistenerScript()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithTasklistenerScript.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -260,7 +260,7 @@ public class NoScriptCheckerTest {
     public void testModelWithScriptTask()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "NoScriptCheckerTest_ModelWithScriptTask.bpmn";
-        checker = new NoScriptChecker(rule, PATH);
+        checker = new NoScriptChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
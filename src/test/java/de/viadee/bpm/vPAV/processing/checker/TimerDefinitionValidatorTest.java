@@ -0,0 +1,66 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.checker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class TimerDefinitionValidatorTest {
+
+    /**
+     * Case: valid timer definitions of all types
+     */
+    @Test
+    public void testValidTimerDefinitions() {
+        final TimerDefinitionValidator validator = new TimerDefinitionValidator();
+
+        assertNull(validator.validate(TimerDefinitionValidator.TIME_DATE, "2017-11-30T12:00:00"));
+        assertNull(validator.validate(TimerDefinitionValidator.TIME_DURATION, "P10D"));
+        assertNull(validator.validate(TimerDefinitionValidator.TIME_CYCLE, "R5/2017-11-30T12:00:00Z/P1D"));
+        assertNull(validator.validate(TimerDefinitionValidator.TIME_CYCLE, "0 0/5 * * * ?"));
+    }
+
+    /**
+     * Case: invalid timer definitions are reported with the violated scheme
+     */
+    @Test
+    public void testInvalidTimerDefinitions() {
+        final TimerDefinitionValidator validator = new TimerDefinitionValidator();
+
+        assertEquals("does not follow the ISO 8601 scheme for timeDates.",
+                validator.validate(TimerDefinitionValidator.TIME_DATE, "tomorrow"));
+        assertEquals("does not follow the ISO 8601 scheme for timeDuration.",
+                validator.validate(TimerDefinitionValidator.TIME_DURATION, "10 days"));
+        assertEquals("does not follow the ISO 8601 scheme for timeDuration.",
+                validator.validate(TimerDefinitionValidator.TIME_DURATION, "10 days"));
+    }
+}
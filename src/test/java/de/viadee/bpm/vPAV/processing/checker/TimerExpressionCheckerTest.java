@@ -91,7 +91,7 @@ public class TimerExpressionCheckerTest {
     public void testTimerExpression_Correct()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "TimerExpressionCheckerTest_Correct.bpmn";
-        checker = new TimerExpressionChecker(rule, PATH);
+        checker = new TimerExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -123,7 +123,7 @@ public class TimerExpressionCheckerTest {
     public void testTimerExpression_Wrong()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "TimerExpressionCheckerTest_Wrong.bpmn";
-        checker = new TimerExpressionChecker(rule, PATH);
+        checker = new TimerExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -155,7 +155,7 @@ public class TimerExpressionCheckerTest {
     public void testTimerExpressions()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "TimerExpressionCheckerTest.bpmn";
-        checker = new TimerExpressionChecker(rule, PATH);
+        checker = new TimerExpressionChecker(rule);
 
         final Collection<CheckerIssue> issues = new ArrayList<CheckerIssue>();
 
@@ -92,7 +92,7 @@ public class XorNamingConventionCheckerTest {
     public void testOutgoingXor()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "XorNamingConventionChecker_outgoingXor.bpmn";
-        checker = new XorNamingConventionChecker(rule, PATH);
+        checker = new XorNamingConventionChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -123,7 +123,7 @@ public class XorNamingConventionCheckerTest {
     public void testCorrectXor()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "XorNamingConventionChecker_correct.bpmn";
-        checker = new XorNamingConventionChecker(rule, PATH);
+        checker = new XorNamingConventionChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -154,7 +154,7 @@ public class XorNamingConventionCheckerTest {
     public void testFalseXor()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "XorNamingConventionChecker_false.bpmn";
-        checker = new XorNamingConventionChecker(rule, PATH);
+        checker = new XorNamingConventionChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -185,7 +185,7 @@ public class XorNamingConventionCheckerTest {
     public void testOutgoingEdgesCorrect()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "XorNamingConventionChecker_outgoingEdgesCorrect.bpmn";
-        checker = new XorNamingConventionChecker(rule, PATH);
+        checker = new XorNamingConventionChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -216,7 +216,7 @@ public class XorNamingConventionCheckerTest {
     public void testOutgoingEdgesFalse()
             throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
         final String PATH = BASE_PATH + "XorNamingConventionChecker_outgoingEdgesFalse.bpmn";
-        checker = new XorNamingConventionChecker(rule, PATH);
+        checker = new XorNamingConventionChecker(rule);
 
         // parse bpmn model
         final BpmnModelInstance modelInstance = Bpmn.readModelFromFile(new File(PATH));
@@ -233,6 +233,28 @@ public class XorNamingConventionCheckerTest {
         }
     }
 
+    /**
+     * Case: unnamed outgoing edges are reported with an empty element name
+     */
+    @Test
+    public void testUnnamedOutgoingEdges() {
+        final BpmnModelInstance modelInstance = Bpmn.createExecutableProcess("Process_1").startEvent()
+                .exclusiveGateway("ExclusiveGateway_1").name("Correct?").userTask("Task_1").endEvent()
+                .moveToLastGateway().userTask("Task_2").endEvent().done();
+        checker = new XorNamingConventionChecker(rule);
+
+        final BpmnElement element = new BpmnElement("Process_1.bpmn",
+                (ExclusiveGateway) modelInstance.getModelElementById("ExclusiveGateway_1"));
+
+        final Collection<CheckerIssue> issues = checker.check(element);
+
+        Assert.assertEquals(2, issues.size());
+        for (final CheckerIssue issue : issues) {
+            Assert.assertEquals("outgoing edges of xor gateway need to be named", issue.getMessage());
+            Assert.assertEquals("", issue.getElementName());
+        }
+    }
+
     /**
      * Creates rule configuration
      *
@@ -0,0 +1,125 @@
+/**
+ * Copyright � 2017, viadee Unternehmensberatung GmbH
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 3. All advertising materials mentioning features or use of this software
+ *    must display the following acknowledgement:
+ *    This product includes software developed by the viadee Unternehmensberatung GmbH.
+ * 4. Neither the name of the viadee Unternehmensberatung GmbH nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY <viadee Unternehmensberatung GmbH> ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package de.viadee.bpm.vPAV.processing.model.data;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.BaseElement;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.viadee.bpm.vPAV.processing.model.data.ElementExtensions.ListenerType;
+
+/**
+ * unit tests for class ElementExtensions
+ *
+ */
+public class ElementExtensionsTest {
+
+    private static final String BASE_PATH = "src/test/resources/";
+
+    private static final String PATH = BASE_PATH + "ElementExtensionsTest_Listeners.bpmn";
+
+    private static BpmnModelInstance modelInstance;
+
+    @BeforeClass
+    public static void setup() {
+        modelInstance = Bpmn.readModelFromFile(new File(PATH));
+    }
+
+    /**
+     * Case: implementation and execution listeners of a service task are read in one pass
+     */
+    @Test
+    public void testServiceTask() {
+        // Given
+        final BpmnElement element = createElement("ServiceTask_1");
+
+        // When
+        final ElementExtensions extensions = element.getExtensions();
+
+        // Then
+        Assert.assertSame("summary should be computed once per element", extensions, element.getExtensions());
+        Assert.assertEquals(ElementExtensions.CLASS, extensions.getImplementation());
+        Assert.assertEquals(Arrays.asList("de.viadee.bpm.vPAV.delegates.TestDelegate"),
+                extensions.getListeners(ListenerType.EXECUTION, ElementExtensions.CLASS));
+        Assert.assertEquals(Arrays.asList("${bean.run()}"),
+                extensions.getListeners(ListenerType.EXECUTION, ElementExtensions.EXPRESSION));
+        Assert.assertFalse(extensions.hasListener(ListenerType.EXECUTION, ElementExtensions.DELEGATE_EXPRESSION));
+        Assert.assertFalse(extensions.hasListener(ListenerType.TASK, ElementExtensions.CLASS));
+        Assert.assertNull(extensions.getEventExpression());
+    }
+
+    /**
+     * Case: task listeners keep empty attributes, so that checkers can report them
+     */
+    @Test
+    public void testUserTask() {
+        // Given
+        final BpmnElement element = createElement("UserTask_1");
+
+        // When
+        final ElementExtensions extensions = element.getExtensions();
+
+        // Then
+        Assert.assertNull("user tasks have no implementation attribute", extensions.getImplementation());
+        Assert.assertEquals(Collections.singletonList(""),
+                extensions.getListeners(ListenerType.TASK, ElementExtensions.CLASS));
+        Assert.assertEquals(Arrays.asList("${myBean}"),
+                extensions.getListeners(ListenerType.TASK, ElementExtensions.DELEGATE_EXPRESSION));
+        Assert.assertFalse(extensions.hasListener(ListenerType.EXECUTION, ElementExtensions.CLASS));
+    }
+
+    /**
+     * Case: message expression of an end event
+     */
+    @Test
+    public void testEndEvent() {
+        // Given
+        final BpmnElement element = createElement("EndEvent_1");
+
+        // When
+        final ElementExtensions extensions = element.getExtensions();
+
+        // Then
+        Assert.assertEquals("${message}", extensions.getEventExpression());
+        Assert.assertNull(extensions.getImplementation());
+    }
+
+    private BpmnElement createElement(final String id) {
+        final BaseElement baseElement = modelInstance.getModelElementById(id);
+        return new BpmnElement(PATH, baseElement);
+    }
+}